@@ -1,18 +1,27 @@
 package kraken;
 
+import java.util.function.Consumer;
+
 import kraken.command.Command;
 import kraken.exception.KrakenException;
 import kraken.parser.Parser;
+import kraken.reminder.ReminderScheduler;
 import kraken.storage.Storage;
+import kraken.task.Task;
 import kraken.task.TaskList;
 import kraken.ui.GuiUi;
+import kraken.ui.TextUi;
+import kraken.ui.Ui;
 
 /**
  * The Kraken task manager chatbot engine.
  */
 public class Kraken {
+    private static final long REMINDER_LEAD_MINUTES = 60;
+
     private final Storage storage;
     private final TaskList tasks;
+    private ReminderScheduler reminders;
     private boolean shouldExit;
 
     /**
@@ -26,15 +35,95 @@ public class Kraken {
         this.shouldExit = false;
     }
 
+    /**
+     * Runs Kraken in the terminal, reading commands from stdin until {@code bye} or end of input.
+     *
+     * <p>No display is needed, so this is the entry point for servers and piped input. Started with
+     * {@code --script FILE}, it runs the script in batch mode instead (see {@link ScriptRunner}).</p>
+     *
+     * @param args command-line arguments
+     */
+    public static void main(String[] args) {
+        if (isBatchMode(args)) {
+            System.exit(ScriptRunner.runFromCommandLine(args));
+        }
+        new Kraken().run(new TextUi());
+    }
+
+    /**
+     * Returns whether the command line asks for a script to be run in batch mode by {@link #main}.
+     *
+     * @param args command-line arguments
+     * @return {@code true} if the first argument is {@value ScriptRunner#SCRIPT_OPTION}
+     */
+    static boolean isBatchMode(String[] args) {
+        return args.length > 0 && ScriptRunner.SCRIPT_OPTION.equals(args[0]);
+    }
+
+    /**
+     * Reads and executes commands from the given text UI until {@code bye} or end of input.
+     *
+     * <p>Each response is framed by separator lines and flushed once, after the whole command has run.</p>
+     *
+     * @param ui text UI to read commands from and show responses on
+     */
+    public void run(TextUi ui) {
+        ui.showWelcome();
+        ui.flush();
+        while (!shouldExit && ui.hasNextCommand()) {
+            String input = ui.readCommand();
+            ui.showLine();
+            execute(input, ui);
+            ui.showLine();
+            ui.flush();
+        }
+    }
+
     /**
      * Returns the welcome message shown at startup.
      */
-    public String getWelcomeMessage() {
+    public static String getWelcomeMessage() {
         GuiUi ui = new GuiUi();
         ui.showWelcome();
         return ui.consumeOutput();
     }
 
+    /**
+     * Starts delivering reminders for deadlines and events due within the next hour.
+     *
+     * <p>Due tasks arrive on the scheduler's background thread, which must not read them: the caller hands
+     * each one to the thread that runs commands and formats it there with {@link #getReminder(Task)}. The
+     * scheduler tracks the task list from then on, so later additions, marks and deletions are reflected
+     * automatically.</p>
+     *
+     * <p>Only the GUI starts reminders; the text UI blocks on its input, so it has no thread to show them
+     * on.</p>
+     *
+     * @param listener receives each task as its reminder becomes due
+     */
+    public void startReminders(Consumer<Task> listener) {
+        assert reminders == null : "Reminders already started";
+        reminders = new ReminderScheduler(REMINDER_LEAD_MINUTES, listener);
+        tasks.addPendingTaskListener(reminders);
+    }
+
+    /**
+     * Formats the reminder for a task delivered by {@link #startReminders(Consumer)}.
+     *
+     * <p>Must be called on the thread that runs commands, like {@link #getResponse(String, Consumer)}.</p>
+     *
+     * @param task task whose reminder is due
+     * @return the reminder message, or {@code null} if the task was marked as done meanwhile
+     */
+    public String getReminder(Task task) {
+        if (task.isDone()) {
+            return null;
+        }
+        GuiUi ui = new GuiUi();
+        ui.showReminder(task);
+        return ui.consumeOutput();
+    }
+
     /**
      * Generates a response for the user's input.
      *
@@ -43,15 +132,35 @@ public class Kraken {
      */
     public String getResponse(String input) {
         GuiUi ui = new GuiUi();
+        execute(input, ui);
+        return ui.consumeOutput();
+    }
+
+    /**
+     * Generates a response for the user's input, streaming it line by line as it is produced.
+     *
+     * <p>Lines are passed on the calling thread before this method returns; the response is never built up
+     * as a whole, so callers can start showing a long response while the rest is still being produced.</p>
+     *
+     * @param input user input line
+     * @param lines receives each line of Kraken's response, without line separators
+     */
+    public void getResponse(String input, Consumer<String> lines) {
+        execute(input, lines::accept);
+    }
+
+    private void execute(String input, Ui ui) {
         try {
             Command command = Parser.parse(input);
             command.execute(tasks, ui, storage);
             shouldExit = command.isExit();
+            if (shouldExit && reminders != null) {
+                reminders.close();
+            }
         } catch (KrakenException e) {
             shouldExit = false;
             ui.showError(e.getMessage());
         }
-        return ui.consumeOutput();
     }
 
     /**
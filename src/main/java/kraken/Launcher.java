@@ -8,11 +8,16 @@ import kraken.gui.Main;
  */
 public class Launcher {
     /**
-     * Launches the JavaFX GUI.
+     * Launches the JavaFX GUI, or hands over to {@link Kraken#main} to run a script in batch mode when started
+     * with {@code --script FILE}.
      *
      * @param args command-line arguments
      */
     public static void main(String[] args) {
+        if (Kraken.isBatchMode(args)) {
+            Kraken.main(args);
+            return;
+        }
         Application.launch(Main.class, args);
     }
 }
@@ -0,0 +1,162 @@
+package kraken;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import kraken.command.Command;
+import kraken.exception.KrakenException;
+import kraken.parser.Parser;
+import kraken.storage.DeferredStorage;
+import kraken.task.TaskList;
+import kraken.ui.Ui;
+
+/**
+ * Runs a file of commands in batch, e.g. {@code kraken --script import.txt [--save-every N]}.
+ *
+ * <p>Every non-blank line is parsed and executed as if typed, but saves are deferred to a
+ * {@link DeferredStorage}, so the data file is written once at the end (or every {@code N} saves)
+ * instead of after each mutating command. Command output is discarded; failing lines are collected
+ * and reported in a summary. A {@code bye} line ends the script early.</p>
+ */
+public class ScriptRunner {
+    static final String SCRIPT_OPTION = "--script";
+    static final String SAVE_EVERY_OPTION = "--save-every";
+    private static final String USAGE = "Usage: kraken " + SCRIPT_OPTION + " FILE [" + SAVE_EVERY_OPTION + " N]";
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private final DeferredStorage storage;
+    private final TaskList tasks;
+    private final List<String> errors = new ArrayList<>();
+    private int commandCount;
+
+    /**
+     * Creates a runner operating on the tasks stored in the given storage.
+     *
+     * <p>Tasks are loaded from disk immediately.</p>
+     *
+     * @param storage storage to load from and, deferred, save to
+     */
+    public ScriptRunner(DeferredStorage storage) {
+        this.storage = storage;
+        this.tasks = new TaskList(storage.load());
+    }
+
+    /**
+     * Runs batch mode from the command line and returns the process exit status.
+     *
+     * @param args command-line arguments, starting with {@value #SCRIPT_OPTION}
+     * @return {@code 0} if every command succeeded, {@code 1} if any failed, {@code 2} on bad usage or an
+     *         unreadable script
+     */
+    static int runFromCommandLine(String[] args) {
+        assert args.length > 0 && SCRIPT_OPTION.equals(args[0]) : "Not a script invocation";
+        int saveInterval = 0;
+        if (args.length == 4 && SAVE_EVERY_OPTION.equals(args[2])) {
+            try {
+                saveInterval = Integer.parseInt(args[3]);
+            } catch (NumberFormatException e) {
+                saveInterval = -1;
+            }
+        }
+        if ((args.length != 2 && args.length != 4) || saveInterval < 0) {
+            System.err.println(USAGE);
+            return 2;
+        }
+
+        Path script = Paths.get(args[1]);
+        ScriptRunner runner = new ScriptRunner(new DeferredStorage(saveInterval));
+        long start = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(script, StandardCharsets.UTF_8)) {
+            runner.run(reader);
+        } catch (IOException e) {
+            System.err.println("Unable to read script '" + script + "': " + e.getMessage());
+            return 2;
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println(runner.getSummary(script.toString(), elapsedMillis));
+        return runner.getErrors().isEmpty() ? 0 : 1;
+    }
+
+    /**
+     * Executes every command read from {@code reader}, then writes any deferred save.
+     *
+     * @param reader source of commands, one per line
+     * @throws IOException if reading fails; tasks changed so far are still saved
+     */
+    public void run(BufferedReader reader) throws IOException {
+        // Command output is not shown, so it is dropped line by line rather than collected.
+        Ui ui = line -> { };
+        try {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                commandCount++;
+                try {
+                    Command command = Parser.parse(line);
+                    command.execute(tasks, ui, storage);
+                    if (command.isExit()) {
+                        break;
+                    }
+                } catch (KrakenException e) {
+                    errors.add("Line " + lineNumber + ": " + e.getMessage());
+                }
+            }
+        } finally {
+            storage.flush();
+        }
+    }
+
+    /**
+     * Returns the number of commands executed, including failed ones.
+     *
+     * @return executed command count
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Returns one message per failed command, prefixed with its line number.
+     *
+     * @return error messages in script order
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the tasks as left by the script.
+     *
+     * @return task list
+     */
+    public TaskList getTasks() {
+        return tasks;
+    }
+
+    private String getSummary(String scriptName, long elapsedMillis) {
+        StringBuilder summary = new StringBuilder()
+                .append("Ran ").append(commandCount).append(" commands from '").append(scriptName)
+                .append("' in ").append(elapsedMillis).append(" ms: ")
+                .append(errors.size()).append(" failed, ").append(tasks.size()).append(" tasks saved.");
+        int reported = Math.min(errors.size(), MAX_REPORTED_ERRORS);
+        for (int i = 0; i < reported; i++) {
+            summary.append(System.lineSeparator()).append(" ").append(errors.get(i));
+        }
+        if (errors.size() > reported) {
+            summary.append(System.lineSeparator()).append(" ... and ").append(errors.size() - reported)
+                    .append(" more.");
+        }
+        return summary.toString();
+    }
+}
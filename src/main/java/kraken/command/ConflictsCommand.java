@@ -0,0 +1,39 @@
+package kraken.command;
+
+import java.util.List;
+
+import kraken.storage.Storage;
+import kraken.task.EventConflict;
+import kraken.task.TaskList;
+import kraken.ui.Ui;
+
+/**
+ * Lists every pair of not-done events whose time ranges overlap.
+ *
+ * <p>Recurring events are checked over the next {@value TaskList#CONFLICT_HORIZON_DAYS} days only, see
+ * {@link TaskList#getConflicts(java.time.LocalDateTime)}.</p>
+ *
+ * <p>This command does not modify the task list and does not persist anything.</p>
+ */
+public class ConflictsCommand extends Command {
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Prints a header and then each overlapping pair with both task numbers, ordered by when the
+     * overlap begins. If no events overlap, a "no overlapping events" message is printed instead.</p>
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) {
+        List<EventConflict> conflicts = tasks.getConflicts();
+        if (conflicts.isEmpty()) {
+            ui.showNoConflicts();
+            return;
+        }
+
+        ui.showConflictsHeader();
+        for (EventConflict conflict : conflicts) {
+            ui.showConflict(tasks.indexOf(conflict.getFirst()) + 1, conflict.getFirst(),
+                    tasks.indexOf(conflict.getSecond()) + 1, conflict.getSecond());
+        }
+    }
+}
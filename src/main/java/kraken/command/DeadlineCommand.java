@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 
 import kraken.storage.Storage;
 import kraken.task.Deadline;
+import kraken.task.Recurrence;
+import kraken.task.RecurringDeadline;
 import kraken.task.Task;
 import kraken.task.TaskList;
 import kraken.ui.Ui;
@@ -16,6 +18,7 @@ import kraken.ui.Ui;
 public class DeadlineCommand extends Command {
     private final String description;
     private final LocalDateTime by;
+    private final Recurrence recurrence;
 
     /**
      * Creates a command that adds a deadline task.
@@ -24,19 +27,33 @@ public class DeadlineCommand extends Command {
      * @param by due date/time
      */
     public DeadlineCommand(String description, LocalDateTime by) {
+        this(description, by, null);
+    }
+
+    /**
+     * Creates a command that adds a deadline task, repeating if a recurrence is given.
+     *
+     * @param description deadline description
+     * @param by (first) due date/time
+     * @param recurrence how often the deadline repeats, or {@code null} for a one-off deadline
+     */
+    public DeadlineCommand(String description, LocalDateTime by, Recurrence recurrence) {
         this.description = description;
         this.by = by;
+        this.recurrence = recurrence;
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Creates a new {@link Deadline}, appends it to the task list, persists the list, and
-     * reports the updated task count through the UI.</p>
+     * <p>Creates a new {@link Deadline} (or {@link RecurringDeadline}), appends it to the task list, persists
+     * the list, and reports the updated task count through the UI.</p>
      */
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) {
-        Task newTask = new Deadline(description, by);
+        Task newTask = (recurrence == null)
+                ? new Deadline(description, by)
+                : new RecurringDeadline(description, by, recurrence);
         tasks.add(newTask);
         storage.save(tasks.asList());
         ui.showTaskAdded(newTask, tasks.size());
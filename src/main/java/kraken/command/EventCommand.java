@@ -1,9 +1,12 @@
 package kraken.command;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import kraken.storage.Storage;
 import kraken.task.Event;
+import kraken.task.Recurrence;
+import kraken.task.RecurringEvent;
 import kraken.task.Task;
 import kraken.task.TaskList;
 import kraken.ui.Ui;
@@ -17,6 +20,7 @@ public class EventCommand extends Command {
     private final String description;
     private final LocalDateTime from;
     private final LocalDateTime to;
+    private final Recurrence recurrence;
 
     /**
      * Creates a command that adds an event task.
@@ -26,22 +30,47 @@ public class EventCommand extends Command {
      * @param to end date/time
      */
     public EventCommand(String description, LocalDateTime from, LocalDateTime to) {
+        this(description, from, to, null);
+    }
+
+    /**
+     * Creates a command that adds an event task, repeating if a recurrence is given.
+     *
+     * @param description event description
+     * @param from start date/time (of the first occurrence)
+     * @param to end date/time (of the first occurrence)
+     * @param recurrence how often the event repeats, or {@code null} for a one-off event
+     */
+    public EventCommand(String description, LocalDateTime from, LocalDateTime to, Recurrence recurrence) {
         this.description = description;
         this.from = from;
         this.to = to;
+        this.recurrence = recurrence;
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Creates a new {@link Event}, appends it to the task list, persists the list, and reports
-     * the updated task count through the UI.</p>
+     * <p>Creates a new {@link Event} (or {@link RecurringEvent}), appends it to the task list, persists the
+     * list, and reports the updated task count through the UI. If the new event overlaps pending events,
+     * they are listed as a warning; the event is added regardless.</p>
      */
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) {
-        Task newTask = new Event(description, from, to);
+        Task newTask = (recurrence == null)
+                ? new Event(description, from, to)
+                : new RecurringEvent(description, from, to, recurrence);
         tasks.add(newTask);
         storage.save(tasks.asList());
         ui.showTaskAdded(newTask, tasks.size());
+
+        List<Task> overlapping = tasks.getOverlappingEvents(from, to);
+        overlapping.remove(newTask);
+        if (!overlapping.isEmpty()) {
+            ui.showOverlappingEventsWarning();
+            for (Task task : overlapping) {
+                ui.showTaskWithIndex(tasks.indexOf(task) + 1, task);
+            }
+        }
     }
 }
@@ -3,7 +3,6 @@ package kraken.command;
 import java.util.Locale;
 
 import kraken.storage.Storage;
-import kraken.task.Task;
 import kraken.task.TaskList;
 import kraken.ui.Ui;
 
@@ -27,24 +26,22 @@ public class FindCommand extends Command {
     /**
      * {@inheritDoc}
      *
-     * <p>Prints a header and then prints all tasks whose descriptions contain the keyword.</p>
+     * <p>Prints a header and then prints all tasks whose descriptions contain the keyword. Candidates are
+     * narrowed down with the task list's word index, and repeated searches on an unchanged list are answered
+     * from its result cache.</p>
      */
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) {
         ui.showMatchingTasksHeader();
 
         String needle = keyword.toLowerCase(Locale.ROOT);
-        boolean hasMatchingTasks = false;
-        for (int i = 0; i < tasks.size(); i++) {
-            Task task = tasks.get(i);
-            String description = task.getDescription();
-            if (description != null && description.toLowerCase(Locale.ROOT).contains(needle)) {
-                ui.showTaskWithIndex(i + 1, task);
-                hasMatchingTasks = true;
-            }
+        int[] matches = tasks.getCachedResult("find:" + needle, () -> tasks.findContaining(needle));
+
+        for (int index : matches) {
+            ui.showTaskWithIndex(index + 1, tasks.get(index));
         }
 
-        if (!hasMatchingTasks) {
+        if (matches.length == 0) {
             ui.showNoMatchingTasksFound();
         }
     }
@@ -0,0 +1,68 @@
+package kraken.command;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import kraken.storage.Storage;
+import kraken.task.FreeSlot;
+import kraken.task.TaskList;
+import kraken.ui.Ui;
+import kraken.util.DateTimeUtil;
+
+/**
+ * Lists the gaps between not-done events on a date or range of dates.
+ *
+ * <p>This command does not modify the task list and does not persist anything.</p>
+ */
+public class FreeCommand extends Command {
+    /**
+     * Shortest gap, in minutes, listed when the user does not specify one.
+     */
+    public static final long DEFAULT_MIN_MINUTES = 30;
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final long minMinutes;
+
+    /**
+     * Creates a command that lists free slots from the start of {@code from} to the end of {@code to}.
+     *
+     * @param from first date to search (inclusive)
+     * @param to last date to search (inclusive, not before {@code from})
+     * @param minMinutes shortest gap to list, in minutes (expected to be positive)
+     */
+    public FreeCommand(LocalDate from, LocalDate to, long minMinutes) {
+        assert !to.isBefore(from) : "Free-slot range must not end before it starts";
+        assert minMinutes > 0 : "Minimum free-slot length must be positive";
+        this.from = from;
+        this.to = to;
+        this.minMinutes = minMinutes;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Prints a header and then each free slot of at least the minimum length, in time order. Slots
+     * may span midnight when a range of dates is searched. If there are none, a "no free slots" message is
+     * printed instead.</p>
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) {
+        String formattedRange = DateTimeUtil.formatForDisplay(from.atStartOfDay());
+        if (!to.equals(from)) {
+            formattedRange += " to " + DateTimeUtil.formatForDisplay(to.atStartOfDay());
+        }
+
+        List<FreeSlot> slots = tasks.getFreeSlots(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), minMinutes);
+        if (slots.isEmpty()) {
+            ui.showNoFreeSlots(formattedRange);
+            return;
+        }
+
+        ui.showFreeSlotsHeader(formattedRange);
+        for (FreeSlot slot : slots) {
+            ui.showFreeSlot(DateTimeUtil.formatForDisplay(slot.getStart()),
+                    DateTimeUtil.formatForDisplay(slot.getEnd()));
+        }
+    }
+}
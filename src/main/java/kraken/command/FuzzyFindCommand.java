@@ -0,0 +1,50 @@
+package kraken.command;
+
+import java.util.Locale;
+
+import kraken.storage.Storage;
+import kraken.task.TaskList;
+import kraken.ui.Ui;
+
+/**
+ * Finds tasks whose descriptions contain a word close to a possibly misspelt search word.
+ *
+ * <p>This command does not modify the task list and does not persist anything.</p>
+ */
+public class FuzzyFindCommand extends Command {
+    private final String word;
+
+    /**
+     * Creates a command that searches task descriptions for words similar to {@code word}.
+     *
+     * @param word single search word (expected to be non-blank)
+     */
+    public FuzzyFindCommand(String word) {
+        this.word = word;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Prints a header and then all tasks containing a word within a small edit distance of the search
+     * word. Repeated searches on an unchanged list are answered from the task list's result cache.</p>
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) {
+        ui.showMatchingTasksHeader();
+
+        String normalized = word.toLowerCase(Locale.ROOT);
+        int[] matches = tasks.getCachedResult("find~:" + normalized, () -> tasks.findApproximate(normalized)
+                .stream()
+                .mapToInt(tasks::indexOf)
+                .toArray());
+
+        for (int index : matches) {
+            ui.showTaskWithIndex(index + 1, tasks.get(index));
+        }
+
+        if (matches.length == 0) {
+            ui.showNoMatchingTasksFound();
+        }
+    }
+}
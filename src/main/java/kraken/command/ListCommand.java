@@ -1,20 +1,49 @@
 package kraken.command;
 
 import kraken.storage.Storage;
+import kraken.task.SortOrder;
+import kraken.task.Task;
 import kraken.task.TaskList;
 import kraken.ui.Ui;
 
 /**
- * Displays the current task list.
+ * Displays the current task list, optionally in a sorted order.
  */
 public class ListCommand extends Command {
+    private final SortOrder order;
+
+    /**
+     * Creates a command that lists tasks in their canonical order.
+     */
+    public ListCommand() {
+        this(null);
+    }
+
+    /**
+     * Creates a command that lists tasks in the given order.
+     *
+     * @param order ordering to list tasks in, or {@code null} for canonical order
+     */
+    public ListCommand(SortOrder order) {
+        this.order = order;
+    }
+
     /**
      * {@inheritDoc}
      *
-     * <p>This command does not modify tasks or persist anything; it only prints the list.</p>
+     * <p>This command does not modify tasks or persist anything; it only prints the list. Sorted
+     * listings keep each task's canonical task number so it can still be used with other commands.</p>
      */
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) {
-        ui.showTaskList(tasks);
+        if (order == null) {
+            ui.showTaskList(tasks);
+            return;
+        }
+
+        ui.showSortedTaskListHeader(order.getName());
+        for (Task task : tasks.getSortedView(order)) {
+            ui.showTaskWithIndex(tasks.indexOf(task) + 1, task);
+        }
     }
 }
@@ -31,8 +31,7 @@ public class MarkCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws KrakenException {
-        Task task = tasks.getTaskOrThrow(taskIndex);
-        task.markAsDone();
+        Task task = tasks.markTaskOrThrow(taskIndex);
         storage.save(tasks.asList());
         ui.showTaskMarked(task);
     }
@@ -1,10 +1,12 @@
 package kraken.command;
 
 import java.time.LocalDate;
+import java.util.stream.IntStream;
 
 import kraken.storage.Storage;
 import kraken.task.Deadline;
 import kraken.task.Event;
+import kraken.task.Recurring;
 import kraken.task.Task;
 import kraken.task.TaskList;
 import kraken.ui.Ui;
@@ -14,7 +16,8 @@ import kraken.util.DateTimeUtil;
  * Lists tasks that occur on a specific date.
  *
  * <p>Deadlines match when their {@code by} date equals the requested date. Events match when the
- * requested date falls within their inclusive {@code from}/{@code to} date range.</p>
+ * requested date falls within their inclusive {@code from}/{@code to} date range. Recurring tasks match
+ * when one of their occurrences does; only the occurrence nearest the date is computed.</p>
  */
 public class OnCommand extends Command {
     private final LocalDate date;
@@ -32,42 +35,51 @@ public class OnCommand extends Command {
      * {@inheritDoc}
      *
      * <p>Prints a header for the requested date, then lists matching tasks (if any). If no tasks
-     * match, a \"no tasks found\" message is printed.</p>
+     * match, a \"no tasks found\" message is printed. Repeated lookups of the same date on an unchanged
+     * list are answered from the task list's result cache.</p>
      */
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) {
         String formattedDate = DateTimeUtil.formatForDisplay(date.atStartOfDay());
         ui.showTasksOnDateHeader(formattedDate);
 
-        boolean hasTasksOnDate = false;
-        for (int i = 0; i < tasks.size(); i++) {
-            Task task = tasks.get(i);
+        long dayStart = DateTimeUtil.startOfDayEpochMinute(date);
+        long nextDayStart = DateTimeUtil.startOfDayEpochMinute(date.plusDays(1));
+        int[] matches = tasks.getCachedResult("on:" + date, () -> IntStream.range(0, tasks.size())
+                .filter(i -> isOnDate(tasks.get(i), dayStart, nextDayStart))
+                .toArray());
 
-            if (task instanceof Deadline) {
-                Deadline d = (Deadline) task;
-                if (d.getBy() != null && d.getBy().toLocalDate().equals(date)) {
-                    ui.showTaskWithIndex(i + 1, task);
-                    hasTasksOnDate = true;
-                }
-                continue;
-            }
+        for (int index : matches) {
+            ui.showTaskWithIndex(index + 1, tasks.get(index));
+        }
+
+        if (matches.length == 0) {
+            ui.showNoTasksFoundOn(formattedDate);
+        }
+    }
 
-            if (task instanceof Event) {
-                Event e = (Event) task;
-                if (e.getFrom() != null && e.getTo() != null) {
-                    LocalDate start = e.getFrom().toLocalDate();
-                    LocalDate end = e.getTo().toLocalDate();
-                    boolean isOnDate = !date.isBefore(start) && !date.isAfter(end);
-                    if (isOnDate) {
-                        ui.showTaskWithIndex(i + 1, task);
-                        hasTasksOnDate = true;
-                    }
-                }
+    /**
+     * Returns whether the task falls on the requested date, comparing epoch minutes directly.
+     */
+    private boolean isOnDate(Task task, long dayStart, long nextDayStart) {
+        if (task instanceof Deadline) {
+            long by = ((Deadline) task).getByEpochMinute();
+            if (task instanceof Recurring) {
+                by = ((Recurring) task).firstOccurrenceFrom(dayStart);
             }
+            return by >= dayStart && by < nextDayStart;
         }
 
-        if (!hasTasksOnDate) {
-            ui.showNoTasksFoundOn(formattedDate);
+        if (task instanceof Event) {
+            Event e = (Event) task;
+            long from = e.getFromEpochMinute();
+            long duration = e.getToEpochMinute() - from;
+            if (task instanceof Recurring) {
+                from = ((Recurring) task).firstOccurrenceFrom(dayStart - duration);
+            }
+            return from < nextDayStart && from + duration >= dayStart;
         }
+
+        return false;
     }
 }
@@ -0,0 +1,55 @@
+package kraken.command;
+
+import kraken.storage.Storage;
+import kraken.task.QueryResult;
+import kraken.task.Task;
+import kraken.task.TaskList;
+import kraken.task.TaskQuery;
+import kraken.ui.Ui;
+
+/**
+ * Lists the tasks matching a compiled {@link TaskQuery}, or explains how the query would be answered.
+ *
+ * <p>This command does not modify the task list and does not persist anything.</p>
+ */
+public class QueryCommand extends Command {
+    private final TaskQuery query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a command that runs the given query.
+     *
+     * @param query compiled query
+     * @param isExplain {@code true} to report the chosen plan instead of listing the matches
+     */
+    public QueryCommand(TaskQuery query, boolean isExplain) {
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Runs the query through {@link TaskList#query(TaskQuery)}. In explain mode, prints the access
+     * path chosen by the planner together with the number of rows scanned and matched; otherwise prints
+     * the matching tasks with their task numbers.</p>
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) {
+        QueryResult result = tasks.query(query);
+
+        if (isExplain) {
+            ui.showQueryPlan(query.toString(), result.getPlan(), result.getRowsScanned(),
+                    result.getMatches().size());
+            return;
+        }
+
+        ui.showMatchingTasksHeader();
+        for (Task task : result.getMatches()) {
+            ui.showTaskWithIndex(tasks.indexOf(task) + 1, task);
+        }
+        if (result.getMatches().isEmpty()) {
+            ui.showNoMatchingTasksFound();
+        }
+    }
+}
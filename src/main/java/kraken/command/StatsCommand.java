@@ -0,0 +1,22 @@
+package kraken.command;
+
+import kraken.storage.Storage;
+import kraken.task.TaskList;
+import kraken.ui.Ui;
+
+/**
+ * Displays aggregate statistics about the task list.
+ *
+ * <p>This command does not modify the task list and does not persist anything.</p>
+ */
+public class StatsCommand extends Command {
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Prints the statistics maintained by the task list.</p>
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) {
+        ui.showStatistics(tasks.getStatistics());
+    }
+}
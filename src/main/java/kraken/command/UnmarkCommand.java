@@ -31,8 +31,7 @@ public class UnmarkCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws KrakenException {
-        Task task = tasks.getTaskOrThrow(taskIndex);
-        task.markAsNotDone();
+        Task task = tasks.unmarkTaskOrThrow(taskIndex);
         storage.save(tasks.asList());
         ui.showTaskUnmarked(task);
     }
@@ -0,0 +1,53 @@
+package kraken.command;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import kraken.storage.Storage;
+import kraken.task.Task;
+import kraken.task.TaskList;
+import kraken.ui.Ui;
+
+/**
+ * Lists the nearest not-done deadlines and events scheduled after the current time.
+ *
+ * <p>This command does not modify the task list and does not persist anything.</p>
+ */
+public class UpcomingCommand extends Command {
+    /**
+     * Number of tasks listed when the user does not specify a count.
+     */
+    public static final int DEFAULT_LIMIT = 5;
+
+    private final int limit;
+
+    /**
+     * Creates a command that lists up to {@code limit} upcoming tasks.
+     *
+     * @param limit maximum number of tasks to list (expected to be positive)
+     */
+    public UpcomingCommand(int limit) {
+        assert limit > 0 : "Upcoming limit must be positive";
+        this.limit = limit;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Prints a header and then the upcoming tasks in date order, each with its task number. If no
+     * tasks are upcoming, a "no upcoming tasks" message is printed instead.</p>
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) {
+        List<Task> upcoming = tasks.getUpcoming(LocalDateTime.now(), limit);
+        if (upcoming.isEmpty()) {
+            ui.showNoUpcomingTasks();
+            return;
+        }
+
+        ui.showUpcomingTasksHeader();
+        for (Task task : upcoming) {
+            ui.showTaskWithIndex(tasks.indexOf(task) + 1, task);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package kraken.gui;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One entry of the chat transcript: the text and who said it.
+ *
+ * <p>The transcript keeps only these, not their nodes; {@link DialogCell}s render the visible ones.</p>
+ *
+ * <p>A reply streamed in chunks keeps them as they arrived and only joins them into one text when it is
+ * rendered or written to the log, so a long reply is never copied as it grows.</p>
+ */
+public final class ChatMessage {
+    private static final String PENDING_TEXT = "...";
+    private static final char USER_MARK = 'U';
+    private static final char KRAKEN_MARK = 'K';
+
+    /** Lines of the text in chunks, joined with line separators; never empty. */
+    private final List<String> chunks;
+    private final boolean isFromUser;
+    private final boolean isPending;
+
+    /**
+     * Creates a transcript entry.
+     *
+     * @param text message text
+     * @param isFromUser {@code true} for user input, {@code false} for Kraken's replies
+     */
+    public ChatMessage(String text, boolean isFromUser) {
+        this(text, isFromUser, false);
+    }
+
+    private ChatMessage(String text, boolean isFromUser, boolean isPending) {
+        this(List.of(text), isFromUser, isPending);
+    }
+
+    private ChatMessage(List<String> chunks, boolean isFromUser, boolean isPending) {
+        this.chunks = chunks.isEmpty() ? List.of("") : chunks;
+        this.isFromUser = isFromUser;
+        this.isPending = isPending;
+    }
+
+    /**
+     * Creates an entry for a line the user typed.
+     *
+     * @param text user input
+     * @return the transcript entry
+     */
+    public static ChatMessage fromUser(String text) {
+        return new ChatMessage(text, true);
+    }
+
+    /**
+     * Creates an entry for a reply or reminder from Kraken.
+     *
+     * @param text Kraken's message
+     * @return the transcript entry
+     */
+    public static ChatMessage fromKraken(String text) {
+        return new ChatMessage(text, false);
+    }
+
+    /**
+     * Creates an entry for a complete reply from Kraken that arrived in chunks.
+     *
+     * @param chunks the reply's chunks of lines, in order
+     * @return the transcript entry
+     */
+    public static ChatMessage fromKraken(List<String> chunks) {
+        return new ChatMessage(List.copyOf(chunks), false, false);
+    }
+
+    /**
+     * Creates a placeholder for a reply from Kraken that is still being worked out.
+     *
+     * <p>Each placeholder is a distinct object, so it can be found and replaced once the reply arrives.</p>
+     *
+     * @return the placeholder entry
+     */
+    public static ChatMessage pendingReply() {
+        return new ChatMessage(PENDING_TEXT, false, true);
+    }
+
+    /**
+     * Creates an entry for a reply from Kraken that is still streaming in.
+     *
+     * <p>Like a placeholder, it stays pending until it is replaced by the complete reply. It reads the given
+     * chunks rather than copying them, so the caller must only append to them on the JavaFX application thread
+     * and replace this entry each time it does.</p>
+     *
+     * @param chunksSoFar the chunks of the reply received so far
+     * @return the partial entry
+     */
+    public static ChatMessage partialReply(List<String> chunksSoFar) {
+        return new ChatMessage(Collections.unmodifiableList(chunksSoFar), false, true);
+    }
+
+    /**
+     * Restores an entry written by {@link #encode()}.
+     *
+     * @param encoded encoded entry
+     * @return the transcript entry
+     */
+    public static ChatMessage decode(String encoded) {
+        return new ChatMessage(encoded.substring(1), encoded.charAt(0) == USER_MARK);
+    }
+
+    /**
+     * Encodes this entry as a single string, for the on-disk transcript log.
+     *
+     * @return the speaker mark followed by the text
+     */
+    public String encode() {
+        return (isFromUser ? USER_MARK : KRAKEN_MARK) + getText();
+    }
+
+    /**
+     * Returns the text of this entry, joining its chunks if it arrived in several.
+     *
+     * @return message text
+     */
+    public String getText() {
+        return (chunks.size() == 1) ? chunks.get(0) : String.join(System.lineSeparator(), chunks);
+    }
+
+    public boolean isFromUser() {
+        return isFromUser;
+    }
+
+    public boolean isPending() {
+        return isPending;
+    }
+}
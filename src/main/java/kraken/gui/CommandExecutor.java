@@ -0,0 +1,246 @@
+package kraken.gui;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
+import kraken.Kraken;
+
+/**
+ * Runs Kraken's commands on one background thread so the JavaFX application thread never waits for them.
+ *
+ * <p>Commands run strictly in the order they were submitted, one at a time, and their responses are
+ * posted back to the application thread in that same order. {@link Kraken} itself is created as the first
+ * job, so loading the tasks never delays the window, and commands typed meanwhile simply queue behind it.
+ * It is only ever touched from the command thread, so the task list needs no locking. If it cannot be created,
+ * the failure is reported once and then given as the response to every command, so no reply is left
+ * pending.</p>
+ *
+ * <p>Responses are streamed: every {@value #CHUNK_LINES} lines are posted as soon as they are produced, so
+ * the first results of a long listing show up while the rest is still being written, and the command thread
+ * never builds a response up in full.</p>
+ *
+ * <p>Live searches share the same thread but only the latest one counts: each new search supersedes the
+ * previous ones, which are skipped if they have not started and whose results are dropped if they have.</p>
+ */
+final class CommandExecutor {
+    private static final int CHUNK_LINES = 100;
+    private static final int PREVIEW_LINES = 20;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "kraken-commands");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** Created and used on the command thread only; {@code null} if it could not be created. */
+    private Kraken kraken;
+    /** Set on the command thread if the engine could not be created, saying why. */
+    private String startFailure;
+    /** Set on the command thread once a command asks to exit; later commands are dropped. */
+    private boolean hasExited;
+    /** Incremented on the application thread by every new or cancelled search; older searches are stale. */
+    private final AtomicLong searchGeneration = new AtomicLong();
+
+    /**
+     * Receives the outcome of a command on the JavaFX application thread.
+     */
+    interface ResponseHandler {
+        /**
+         * Receives the next lines of the response, joined with line separators.
+         *
+         * @param text up to {@value #CHUNK_LINES} lines of the response
+         */
+        void handleChunk(String text);
+
+        /**
+         * Called once the whole response has been passed to {@link #handleChunk(String)}.
+         *
+         * @param isExit whether the command exits the application
+         */
+        void handleEnd(boolean isExit);
+    }
+
+    /**
+     * Creates an executor and starts creating the engine on the command thread.
+     *
+     * @param loader creates the engine, loading its tasks; runs before any submitted command
+     * @param failureHandler called on the JavaFX application thread with an error message if the loader fails
+     */
+    CommandExecutor(Supplier<Kraken> loader, Consumer<String> failureHandler) {
+        executor.execute(() -> {
+            try {
+                kraken = loader.get();
+            } catch (RuntimeException e) {
+                String message = "Kraken could not start, so commands cannot run: "
+                        + Objects.requireNonNullElse(e.getMessage(), e.toString());
+                startFailure = message;
+                Platform.runLater(() -> failureHandler.accept(message));
+            }
+        });
+    }
+
+    /**
+     * Queues a command behind any already submitted.
+     *
+     * <p>Commands still queued when one of them exits the application, or submitted after
+     * {@link #shutdown()}, are not run.</p>
+     *
+     * @param input user input line
+     * @param handler called on the JavaFX application thread with Kraken's response, chunk by chunk
+     */
+    void submit(String input, ResponseHandler handler) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> {
+            if (hasExited) {
+                return;
+            }
+            LineChunker chunker = new LineChunker(handler);
+            if (kraken == null) {
+                chunker.accept(startFailure);
+            } else {
+                kraken.getResponse(input, chunker);
+                hasExited = kraken.isExit();
+            }
+            chunker.flush();
+            boolean isExit = hasExited;
+            Platform.runLater(() -> handler.handleEnd(isExit));
+        });
+    }
+
+    /**
+     * Queues a live search behind any already submitted commands, superseding earlier searches.
+     *
+     * <p>The search runs like a command, but its output is cut to its first {@value #PREVIEW_LINES} lines and
+     * only handed over if no newer search was started or {@link #cancelSearch()} called meanwhile, so a stale
+     * result can never overwrite a newer one.</p>
+     *
+     * @param input a read-only command line, such as a {@code find} command
+     * @param handler called on the JavaFX application thread with the shortened output
+     */
+    void search(String input, Consumer<String> handler) {
+        long generation = searchGeneration.incrementAndGet();
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> {
+            if (kraken == null || hasExited || generation != searchGeneration.get()) {
+                return;
+            }
+            PreviewCollector preview = new PreviewCollector();
+            kraken.getResponse(input, preview);
+            String text = preview.toString();
+            Platform.runLater(() -> {
+                if (generation == searchGeneration.get()) {
+                    handler.accept(text);
+                }
+            });
+        });
+    }
+
+    /**
+     * Makes any queued or running live search stale, so its result is never handed over.
+     */
+    void cancelSearch() {
+        searchGeneration.incrementAndGet();
+    }
+
+    /**
+     * Queues work that needs the engine, such as setup, behind any already submitted commands.
+     *
+     * <p>May be called from any thread. The work is skipped if the engine could not be created, and dropped
+     * after {@link #shutdown()}.</p>
+     *
+     * @param task work to run on the command thread with the engine
+     */
+    void execute(Consumer<Kraken> task) {
+        try {
+            executor.execute(() -> {
+                if (kraken != null) {
+                    task.accept(kraken);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shut down, possibly by the application thread while another thread was queueing this work.
+        }
+    }
+
+    /**
+     * Stops accepting commands; those already queued still run.
+     */
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Groups response lines into chunks and posts each full chunk to the application thread.
+     */
+    private static final class LineChunker implements Consumer<String> {
+        private final ResponseHandler handler;
+        private final StringBuilder chunk = new StringBuilder();
+        private int lineCount;
+
+        LineChunker(ResponseHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void accept(String line) {
+            if (lineCount > 0) {
+                chunk.append(System.lineSeparator());
+            }
+            chunk.append(line);
+            lineCount++;
+            if (lineCount == CHUNK_LINES) {
+                flush();
+            }
+        }
+
+        /**
+         * Posts the lines collected so far, if any.
+         */
+        void flush() {
+            if (lineCount == 0) {
+                return;
+            }
+            String text = chunk.toString();
+            chunk.setLength(0);
+            lineCount = 0;
+            Platform.runLater(() -> handler.handleChunk(text));
+        }
+    }
+
+    /**
+     * Keeps the first {@value #PREVIEW_LINES} lines of a response and counts the rest.
+     */
+    private static final class PreviewCollector implements Consumer<String> {
+        private final StringBuilder text = new StringBuilder();
+        private int lineCount;
+
+        @Override
+        public void accept(String line) {
+            lineCount++;
+            if (lineCount > PREVIEW_LINES) {
+                return;
+            }
+            if (lineCount > 1) {
+                text.append(System.lineSeparator());
+            }
+            text.append(line);
+        }
+
+        @Override
+        public String toString() {
+            if (lineCount <= PREVIEW_LINES) {
+                return text.toString();
+            }
+            return text + System.lineSeparator() + " ... and " + (lineCount - PREVIEW_LINES) + " more.";
+        }
+    }
+}
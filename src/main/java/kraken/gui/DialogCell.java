@@ -0,0 +1,59 @@
+package kraken.gui;
+
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+
+/**
+ * A transcript row that shows a {@link ChatMessage} in one reusable {@link DialogBox}.
+ *
+ * <p>The {@link ListView} only creates enough cells to fill its viewport and hands them new messages as it
+ * scrolls, so the number of dialog nodes stays fixed however long the session gets.</p>
+ */
+public class DialogCell extends ListCell<ChatMessage> {
+    /** Horizontal room left for the list's padding and vertical scroll bar. */
+    private static final double SCROLL_BAR_ALLOWANCE = 20.0;
+
+    private final DialogBox dialogBox = new DialogBox();
+    private final Image userImage;
+    private final Image krakenImage;
+    private final Runnable onFirstRowShown;
+
+    /**
+     * Creates a cell for the given transcript view.
+     *
+     * @param listView transcript the cell belongs to; its width bounds the dialog so long text wraps
+     * @param userImage avatar shown next to user messages
+     * @param krakenImage avatar shown next to Kraken's messages
+     * @param onFirstRowShown called whenever the cell is given the first row, i.e. the user scrolled to the top
+     */
+    public DialogCell(ListView<ChatMessage> listView, Image userImage, Image krakenImage, Runnable onFirstRowShown) {
+        this.userImage = userImage;
+        this.krakenImage = krakenImage;
+        this.onFirstRowShown = onFirstRowShown;
+        dialogBox.prefWidthProperty().bind(listView.widthProperty().subtract(SCROLL_BAR_ALLOWANCE));
+        dialogBox.maxWidthProperty().bind(dialogBox.prefWidthProperty());
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        // Rows are not selectable in a chat; keep them free of selection and striping backgrounds.
+        setStyle("-fx-background-color: transparent; -fx-padding: 0;");
+    }
+
+    @Override
+    protected void updateItem(ChatMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+        if (message.isFromUser()) {
+            dialogBox.show(message.getText(), userImage, false);
+        } else {
+            dialogBox.show(message.getText(), krakenImage, true);
+        }
+        setGraphic(dialogBox);
+        if (getIndex() == 0) {
+            onFirstRowShown.run();
+        }
+    }
+}
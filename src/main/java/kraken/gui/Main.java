@@ -1,6 +1,7 @@
 package kraken.gui;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -11,10 +12,12 @@ import kraken.Kraken;
 
 /**
  * A JavaFX GUI for Kraken using FXML.
+ *
+ * <p>The window is shown before any tasks are loaded; loading happens in the background (see
+ * {@link MainWindow#start}). How long after JVM start the window appeared and the tasks were ready is
+ * reported on stderr, to keep an eye on startup time.</p>
  */
 public class Main extends Application {
-    private final Kraken kraken = new Kraken();
-
     @Override
     public void start(Stage stage) {
         try {
@@ -23,11 +26,21 @@ public class Main extends Application {
             Scene scene = new Scene(root);
             stage.setTitle("Kraken");
             stage.setScene(scene);
-            fxmlLoader.<MainWindow>getController().setKraken(kraken);
             stage.show();
+            reportStartup("window shown");
+
+            fxmlLoader.<MainWindow>getController().start(() -> {
+                Kraken kraken = new Kraken();
+                reportStartup("tasks ready");
+                return kraken;
+            });
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
-}
 
+    private static void reportStartup(String milestone) {
+        long sinceJvmStart = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.err.println("Startup: " + milestone + " " + sinceJvmStart + " ms after JVM start");
+    }
+}
@@ -1,62 +1,182 @@
 package kraken.gui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 import kraken.Kraken;
+import kraken.parser.Parser;
 
 /**
  * Controller for the main GUI.
+ *
+ * <p>The transcript is a virtualized {@link ListView} of {@link ChatMessage}s: only the rows in view have
+ * dialog nodes, and only the most recent entries are held in memory at all (see {@link Transcript}), so
+ * layout and memory do not grow with the length of the session.</p>
+ *
+ * <p>Commands run on a {@link CommandExecutor}, never on the JavaFX application thread. Each input is shown
+ * at once with a {@code "..."} placeholder reply. Kraken's response streams into that reply in chunks of
+ * lines, so even a long listing stays one message, and it stops being pending once the response is
+ * complete.</p>
+ *
+ * <p>While a {@code find} command is being typed, under any word that resolves to it, its results are previewed live at
+ * the end of the transcript. The search only starts once typing pauses for {@value #SEARCH_DELAY_MILLIS} ms, runs on
+ * the command thread like any command, and is superseded by every further keystroke.</p>
  */
 public class MainWindow extends AnchorPane {
+    private static final int SEARCH_DELAY_MILLIS = 200;
+
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<ChatMessage> transcript;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
 
-    private Kraken kraken;
+    private CommandExecutor commands;
+    private final Transcript history = new Transcript();
+    private boolean isLoadingOlder;
+    private final PauseTransition searchDelay = new PauseTransition(Duration.millis(SEARCH_DELAY_MILLIS));
+    /** Live search results currently shown, or {@code null} if none. */
+    private ChatMessage searchPreview;
 
     private final Image userImage = new Image(this.getClass().getResourceAsStream("/images/user_avatar.png"));
     private final Image krakenImage = new Image(this.getClass().getResourceAsStream("/images/kraken_avatar.png"));
 
     @FXML
     public void initialize() {
-        dialogContainer.heightProperty().addListener((observable) -> scrollPane.setVvalue(1.0));
+        transcript.setItems(history.getMessages());
+        transcript.setCellFactory(listView ->
+                new DialogCell(listView, userImage, krakenImage, this::loadOlderMessagesLater));
+        transcript.setFocusTraversable(false);
+        searchDelay.setOnFinished(event -> commands.search(userInput.getText().strip(), this::showSearchPreview));
+        userInput.textProperty().addListener((observable, oldText, newText) -> handleInputChanged(newText));
+    }
+
+    /**
+     * Starts Kraken in the background and greets the user right away.
+     *
+     * <p>Commands entered before Kraken is ready wait, with their pending replies shown, until it is. If it
+     * cannot be started, the error is shown instead and given as the reply to every command.</p>
+     *
+     * @param loader creates the {@link Kraken} instance, loading its tasks; runs off the application thread
+     */
+    public void start(Supplier<Kraken> loader) {
+        commands = new CommandExecutor(loader, error -> addMessages(ChatMessage.fromKraken(error)));
+        addMessages(ChatMessage.fromKraken(Kraken.getWelcomeMessage()));
+        commands.execute(kraken -> kraken.startReminders(task -> commands.execute(engine -> {
+            String reminder = engine.getReminder(task);
+            if (reminder != null) {
+                Platform.runLater(() -> addMessages(ChatMessage.fromKraken(reminder)));
+            }
+        })));
+    }
+
+    /**
+     * Appends messages to the transcript and scrolls to the newest one.
+     */
+    private void addMessages(ChatMessage... newMessages) {
+        history.add(newMessages);
+        transcript.scrollTo(history.getMessages().size() - 1);
     }
 
     /**
-     * Injects the {@link Kraken} instance.
+     * Pages in older messages once the current layout pass is over, keeping the top row in view.
      */
-    public void setKraken(Kraken k) {
-        kraken = k;
-        dialogContainer.getChildren().add(DialogBox.getKrakenDialog(kraken.getWelcomeMessage(), krakenImage));
+    private void loadOlderMessagesLater() {
+        if (isLoadingOlder || !history.hasOlder()) {
+            return;
+        }
+        isLoadingOlder = true;
+        Platform.runLater(() -> {
+            int loaded = history.loadOlder();
+            transcript.scrollTo(loaded);
+            isLoadingOlder = false;
+        });
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing Kraken's reply and then appends them to
-     * the dialog container. Clears the user input after processing.
+     * Restarts the live search delay while a {@code find} command is typed, and drops the preview otherwise.
+     *
+     * <p>Every keystroke makes a search already under way stale, so its result is never shown.</p>
+     */
+    private void handleInputChanged(String text) {
+        commands.cancelSearch();
+        if (Parser.isFindWithKeyword(text)) {
+            searchDelay.playFromStart();
+        } else {
+            clearSearchPreview();
+        }
+    }
+
+    /**
+     * Shows live search results as the newest transcript entry, in place of the previous ones.
+     */
+    private void showSearchPreview(String text) {
+        if (searchPreview != null) {
+            history.remove(searchPreview);
+        }
+        searchPreview = ChatMessage.fromKraken(text);
+        addMessages(searchPreview);
+    }
+
+    /**
+     * Stops any pending or running live search and removes its results from the transcript.
+     */
+    private void clearSearchPreview() {
+        searchDelay.stop();
+        commands.cancelSearch();
+        if (searchPreview != null) {
+            history.remove(searchPreview);
+            searchPreview = null;
+        }
+    }
+
+    /**
+     * Adds the user input and a pending reply to the transcript and queues the command. Clears the user input.
      */
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
-        String response = kraken.getResponse(input);
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getKrakenDialog(response, krakenImage)
-        );
+        clearSearchPreview();
+        ChatMessage pendingReply = ChatMessage.pendingReply();
+        addMessages(ChatMessage.fromUser(input), pendingReply);
         userInput.clear();
 
-        if (kraken.isExit()) {
-            Platform.exit();
-        }
+        commands.submit(input, new CommandExecutor.ResponseHandler() {
+            private final List<String> chunks = new ArrayList<>();
+            private ChatMessage reply = pendingReply;
+
+            @Override
+            public void handleChunk(String text) {
+                chunks.add(text);
+                showReply(ChatMessage.partialReply(chunks));
+                transcript.scrollTo(history.getMessages().size() - 1);
+            }
+
+            @Override
+            public void handleEnd(boolean isExit) {
+                showReply(ChatMessage.fromKraken(chunks));
+                if (isExit) {
+                    commands.shutdown();
+                    history.close();
+                    Platform.exit();
+                }
+            }
+
+            private void showReply(ChatMessage updated) {
+                history.replace(reply, updated);
+                reply = updated;
+            }
+        });
     }
 }
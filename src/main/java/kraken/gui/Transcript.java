@@ -0,0 +1,241 @@
+package kraken.gui;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import kraken.storage.TranscriptLog;
+
+/**
+ * The chat transcript, of which only the most recent entries are kept in memory.
+ *
+ * <p>Once more than {@code cap} entries are loaded, the oldest are written to {@code data/transcript.log}
+ * and dropped; scrolling back to the top pages them in again from the log, {@value #PAGE_SIZE} at a time.
+ * The next new message trims the transcript back to the cap. The cap defaults to
+ * {@value #DEFAULT_CAP} and can be set with the {@value #CAP_PROPERTY} system property.</p>
+ *
+ * <p>Pending replies are still to be replaced, so trimming skips over them: they are written to the log as
+ * they stand but stay loaded, ahead of the newer entries, while the entries around them are dropped. Once
+ * such a reply is complete, its entry in the log is rewritten and it is dropped as well. The loaded entries
+ * are therefore these kept replies, oldest first, followed by a contiguous run of the most recent entries.
+ * Only pending replies that outnumber the cap can keep the transcript above it.</p>
+ *
+ * <p>All methods must be called on the JavaFX application thread.</p>
+ */
+final class Transcript {
+    static final String CAP_PROPERTY = "kraken.transcript.cap";
+    private static final int DEFAULT_CAP = 500;
+    private static final int MIN_CAP = 20;
+    private static final int PAGE_SIZE = 50;
+    private static final Path LOG_FILE = Paths.get("data", "transcript.log");
+
+    private final ObservableList<ChatMessage> messages = FXCollections.observableArrayList();
+    private final int cap;
+    private final Path logFile;
+    /** Spilled entries, or {@code null} if the log could not be written; then spilled entries are lost. */
+    private TranscriptLog log;
+    /** Pending replies kept loaded though older than {@link #firstLoaded}, by position in the session. */
+    private final TreeMap<Integer, ChatMessage> keptReplies = new TreeMap<>();
+    /** Position in the whole session of the first entry after the kept replies. */
+    private int firstLoaded;
+
+    /**
+     * Creates an empty transcript, starting a new transcript log.
+     */
+    Transcript() {
+        this(Math.max(MIN_CAP, Integer.getInteger(CAP_PROPERTY, DEFAULT_CAP)), LOG_FILE);
+    }
+
+    /**
+     * Creates an empty transcript with the given cap, starting a new transcript log at the given path.
+     *
+     * @param cap number of entries kept loaded
+     * @param logFile where spilled entries are written
+     */
+    Transcript(int cap, Path logFile) {
+        this.cap = cap;
+        this.logFile = logFile;
+        try {
+            this.log = new TranscriptLog(logFile);
+        } catch (IOException e) {
+            System.err.println("Warning: Unable to open transcript log '" + logFile + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the loaded entries, for display.
+     *
+     * @return the observable list of loaded entries
+     */
+    ObservableList<ChatMessage> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Appends entries, spilling the oldest ones to disk if the cap is exceeded.
+     *
+     * @param newMessages entries to append
+     */
+    void add(ChatMessage... newMessages) {
+        messages.addAll(newMessages);
+        trim();
+    }
+
+    /**
+     * Replaces a loaded entry, typically a pending reply, keeping its position.
+     *
+     * <p>If the entry was already written to the log and the replacement is no longer pending, the log is
+     * updated too; a kept reply that is complete is then dropped from memory like its neighbours.</p>
+     *
+     * @param old entry to replace
+     * @param replacement new entry
+     */
+    void replace(ChatMessage old, ChatMessage replacement) {
+        int index = messages.lastIndexOf(old);
+        if (index == -1) {
+            return;
+        }
+        boolean isKept = index < keptReplies.size();
+        int position = isKept ? positionOfKept(old) : firstLoaded + index - keptReplies.size();
+        if (log != null && position < log.size() && !replacement.isPending()) {
+            try {
+                log.replace(position, replacement.encode());
+            } catch (IOException e) {
+                disableLog(e);
+            }
+        }
+        if (!isKept) {
+            messages.set(index, replacement);
+        } else if (replacement.isPending()) {
+            keptReplies.put(position, replacement);
+            messages.set(index, replacement);
+        } else {
+            keptReplies.remove(position);
+            messages.remove(index);
+        }
+    }
+
+    /**
+     * Removes a loaded entry that has not been written to the log, such as a live search preview.
+     *
+     * @param message entry to remove
+     */
+    void remove(ChatMessage message) {
+        int index = messages.lastIndexOf(message);
+        if (index == -1) {
+            return;
+        }
+        assert index >= keptReplies.size()
+                && (log == null || firstLoaded + index - keptReplies.size() >= log.size())
+                : "Only entries not yet written to the log can be removed";
+        messages.remove(index);
+    }
+
+    /**
+     * Returns whether older entries can be paged in from the log.
+     *
+     * @return {@code true} if some spilled entries are not loaded
+     */
+    boolean hasOlder() {
+        return log != null && firstLoaded > 0 && firstLoaded <= log.size();
+    }
+
+    /**
+     * Pages in the spilled entries just before the loaded ones.
+     *
+     * @return index in {@link #getMessages()} of the entry that was the oldest loaded one before paging in,
+     *         so it can be kept in view
+     */
+    int loadOlder() {
+        if (!hasOlder()) {
+            return 0;
+        }
+        int from = Math.max(0, firstLoaded - PAGE_SIZE);
+        List<ChatMessage> older = new ArrayList<>(firstLoaded - from);
+        try {
+            int position = from;
+            for (String entry : log.read(from, firstLoaded)) {
+                ChatMessage kept = keptReplies.get(position);
+                older.add(kept != null ? kept : ChatMessage.decode(entry));
+                position++;
+            }
+        } catch (IOException e) {
+            disableLog(e);
+            return 0;
+        }
+        // Kept replies in the loaded page take their place in it instead of staying ahead of the entries.
+        int keptBefore = keptReplies.size();
+        keptReplies.tailMap(from).clear();
+        messages.remove(keptReplies.size(), keptBefore);
+        messages.addAll(keptReplies.size(), older);
+        firstLoaded = from;
+        return keptReplies.size() + older.size();
+    }
+
+    /**
+     * Closes the transcript log.
+     */
+    void close() {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.close();
+        } catch (IOException e) {
+            System.err.println("Warning: Unable to close transcript log '" + logFile + "': " + e.getMessage());
+        }
+        log = null;
+    }
+
+    private void trim() {
+        int excess = messages.size() - cap;
+        int start = keptReplies.size();
+        int spilled = 0;
+        int dropped = 0;
+        List<ChatMessage> kept = new ArrayList<>();
+        while (dropped < excess && start + spilled < messages.size()) {
+            ChatMessage message = messages.get(start + spilled);
+            int position = firstLoaded + spilled;
+            if (log != null && position == log.size()) {
+                try {
+                    log.append(message.encode());
+                } catch (IOException e) {
+                    disableLog(e);
+                }
+            }
+            if (message.isPending()) {
+                kept.add(message);
+                keptReplies.put(position, message);
+            } else {
+                dropped++;
+            }
+            spilled++;
+        }
+        if (spilled > 0) {
+            messages.remove(start, start + spilled);
+            messages.addAll(start, kept);
+            firstLoaded += spilled;
+        }
+    }
+
+    private int positionOfKept(ChatMessage message) {
+        for (Map.Entry<Integer, ChatMessage> entry : keptReplies.entrySet()) {
+            if (entry.getValue() == message) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Not a kept reply: " + message.getText());
+    }
+
+    private void disableLog(IOException e) {
+        System.err.println("Warning: Transcript log '" + logFile + "' failed, older messages will not be kept: "
+                + e.getMessage());
+        close();
+    }
+}
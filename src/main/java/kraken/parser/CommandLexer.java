@@ -0,0 +1,227 @@
+package kraken.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits one line of user input into its command word, its arguments and the positions of the
+ * {@code /by}, {@code /from}, {@code /to} and {@code /every} markers, in a single left-to-right scan.
+ *
+ * <p>No regular expressions are used and nothing is copied while scanning; fields are only cut out of
+ * the input (already trimmed) when a parser asks for them. Marker positions follow {@link String#indexOf}
+ * semantics: the first occurrence anywhere in the arguments, or {@code -1} if absent. For {@code /every},
+ * the first occurrence after the {@code /by} marker and after the {@code /to} marker are recorded
+ * separately, as that is where deadlines and events look for it.</p>
+ *
+ * <p>{@link CommandParser}s receive the scanned line and typically only need {@link #args()}.</p>
+ */
+public final class CommandLexer {
+    static final String BY_MARKER = "/by";
+    static final String FROM_MARKER = "/from";
+    static final String TO_MARKER = "/to";
+    static final String EVERY_MARKER = "/every";
+
+    private final String input;
+    private final int wordStart;
+    private final int wordEnd;
+    private final int argsStart;
+    private final int end;
+    private int byIndex = -1;
+    private int fromIndex = -1;
+    private int toIndex = -1;
+    private int everyAfterByIndex = -1;
+    private int everyAfterToIndex = -1;
+
+    /**
+     * Scans the given input line.
+     *
+     * @param input user input line (may be {@code null})
+     */
+    CommandLexer(String input) {
+        this.input = (input == null) ? "" : input;
+        int length = this.input.length();
+
+        int position = 0;
+        while (position < length && isBlank(this.input.charAt(position))) {
+            position++;
+        }
+        wordStart = position;
+        while (position < length && !isBlank(this.input.charAt(position))) {
+            position++;
+        }
+        wordEnd = position;
+        while (position < length && isBlank(this.input.charAt(position))) {
+            position++;
+        }
+        argsStart = position;
+
+        int lastNonBlank = argsStart;
+        for (; position < length; position++) {
+            char c = this.input.charAt(position);
+            if (!isBlank(c)) {
+                lastNonBlank = position + 1;
+            }
+            if (c == '/') {
+                recordMarker(position);
+            }
+        }
+        end = lastNonBlank;
+    }
+
+    private void recordMarker(int position) {
+        if (byIndex == -1 && matches(position, BY_MARKER)) {
+            byIndex = position;
+        }
+        if (fromIndex == -1 && matches(position, FROM_MARKER)) {
+            fromIndex = position;
+        }
+        if (toIndex == -1 && matches(position, TO_MARKER)) {
+            toIndex = position;
+        }
+        if (matches(position, EVERY_MARKER)) {
+            if (everyAfterByIndex == -1 && byIndex != -1 && position >= byIndex + BY_MARKER.length()) {
+                everyAfterByIndex = position;
+            }
+            if (everyAfterToIndex == -1 && toIndex != -1 && position >= toIndex + TO_MARKER.length()) {
+                everyAfterToIndex = position;
+            }
+        }
+    }
+
+    private boolean matches(int position, String marker) {
+        return input.startsWith(marker, position);
+    }
+
+    private static boolean isBlank(char c) {
+        return c <= ' ';
+    }
+
+    /**
+     * Returns whether the input contains anything but whitespace.
+     *
+     * @return {@code true} if there is a command word
+     */
+    boolean hasCommandWord() {
+        return wordEnd > wordStart;
+    }
+
+    /**
+     * Returns whether anything follows the command word.
+     *
+     * @return {@code true} if the arguments are not blank
+     */
+    public boolean hasArgs() {
+        return end > argsStart;
+    }
+
+    /**
+     * Returns the command word (the first whitespace-delimited token).
+     *
+     * @return command word, or an empty string if the input is blank
+     */
+    public String commandWord() {
+        return input.substring(wordStart, wordEnd);
+    }
+
+    /**
+     * Returns everything after the command word, without surrounding whitespace.
+     *
+     * @return trimmed arguments, possibly empty
+     */
+    public String args() {
+        return slice(argsStart, end);
+    }
+
+    /**
+     * Returns the whitespace-separated words of the arguments.
+     *
+     * <p>Words are split at the same whitespace the command word is, so runs of blanks, tabs or other
+     * control characters between words are all treated as one separator.</p>
+     *
+     * @return argument words in order, empty if there are no arguments
+     */
+    List<String> argWords() {
+        List<String> words = new ArrayList<>();
+        int position = argsStart;
+        while (position < end) {
+            int start = position;
+            while (position < end && !isBlank(input.charAt(position))) {
+                position++;
+            }
+            words.add(input.substring(start, position));
+            while (position < end && isBlank(input.charAt(position))) {
+                position++;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the trimmed text between two positions of the input.
+     *
+     * @param from start position (inclusive)
+     * @param to end position (exclusive)
+     * @return the trimmed text, possibly empty
+     */
+    String slice(int from, int to) {
+        int start = from;
+        int stop = to;
+        while (start < stop && isBlank(input.charAt(start))) {
+            start++;
+        }
+        while (stop > start && isBlank(input.charAt(stop - 1))) {
+            stop--;
+        }
+        return input.substring(start, stop);
+    }
+
+    /**
+     * Returns the raw text from a position to the end of the arguments, without trimming its start.
+     *
+     * @param from start position (inclusive)
+     * @return the text up to the end of the trimmed arguments
+     */
+    String rest(int from) {
+        return input.substring(from, end);
+    }
+
+    int wordStart() {
+        return wordStart;
+    }
+
+    int wordEnd() {
+        return wordEnd;
+    }
+
+    char charAt(int position) {
+        return input.charAt(position);
+    }
+
+    int argsStart() {
+        return argsStart;
+    }
+
+    int end() {
+        return end;
+    }
+
+    int byIndex() {
+        return byIndex;
+    }
+
+    int fromIndex() {
+        return fromIndex;
+    }
+
+    int toIndex() {
+        return toIndex;
+    }
+
+    int everyAfterByIndex() {
+        return everyAfterByIndex;
+    }
+
+    int everyAfterToIndex() {
+        return everyAfterToIndex;
+    }
+}
@@ -0,0 +1,52 @@
+package kraken.parser;
+
+import java.util.List;
+
+import kraken.command.Command;
+import kraken.exception.KrakenException;
+
+/**
+ * Turns the arguments of one command word into an executable {@link Command}.
+ *
+ * <p>Besides the built-in commands, implementations listed in
+ * {@code META-INF/services/kraken.parser.CommandParser} on the class path are discovered through
+ * {@link java.util.ServiceLoader} and registered in {@link CommandRegistry#createDefault()}, so new
+ * commands can be added without changing {@link Parser}. Such implementations need a public no-argument
+ * constructor.</p>
+ */
+public interface CommandParser {
+    /**
+     * Returns the command word, as listed in help and error messages.
+     *
+     * @return command name, e.g. {@code deadline}
+     */
+    String getName();
+
+    /**
+     * Returns alternative words for the command, such as one-letter shortcuts.
+     *
+     * @return aliases, possibly empty
+     */
+    default List<String> getAliases() {
+        return List.of();
+    }
+
+    /**
+     * Returns whether the command may be invoked by an unambiguous prefix of its name or aliases,
+     * e.g. {@code dea} for {@code deadline}.
+     *
+     * @return {@code true} if abbreviations are accepted
+     */
+    default boolean allowsAbbreviation() {
+        return true;
+    }
+
+    /**
+     * Parses the arguments following the command word.
+     *
+     * @param input the scanned input line; {@link CommandLexer#args()} gives the trimmed arguments
+     * @return the command to execute
+     * @throws KrakenException if the arguments are invalid
+     */
+    Command parse(CommandLexer input) throws KrakenException;
+}
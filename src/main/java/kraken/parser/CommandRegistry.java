@@ -0,0 +1,159 @@
+package kraken.parser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import kraken.command.Command;
+import kraken.exception.KrakenException;
+
+/**
+ * Maps command words, aliases and their unambiguous abbreviations to {@link CommandParser}s.
+ *
+ * <p>Words are kept in a prefix trie, so dispatch costs one walk over the typed command word however many
+ * commands are registered. An exact word or alias always wins; otherwise a prefix resolves to the one
+ * command it abbreviates (e.g. {@code dea} to {@code deadline}), and a prefix shared by several commands
+ * (e.g. {@code de}) is reported as ambiguous.</p>
+ */
+public class CommandRegistry {
+    private final CommandTrie trie = new CommandTrie();
+    private final List<CommandParser> parsers = new ArrayList<>();
+    private String unknownCommandMessage;
+
+    /**
+     * Creates a registry with the built-in commands followed by any {@link CommandParser}s discovered
+     * through {@link ServiceLoader}.
+     *
+     * <p>A plugin whose words clash with an already registered command is skipped with a warning on
+     * stderr, as are plugins that fail to load.</p>
+     *
+     * @return a registry ready for parsing
+     */
+    public static CommandRegistry createDefault() {
+        CommandRegistry registry = new CommandRegistry();
+        Parser.registerBuiltIns(registry);
+        try {
+            for (CommandParser plugin : ServiceLoader.load(CommandParser.class)) {
+                try {
+                    registry.register(plugin);
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Warning: Skipping command plugin " + plugin.getClass().getName()
+                            + ": " + e.getMessage());
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            System.err.println("Warning: Unable to load command plugins: " + e.getMessage());
+        }
+        return registry;
+    }
+
+    /**
+     * Registers a command under its name and aliases.
+     *
+     * <p>Nothing is registered unless every word is valid and new, so a command can neither take over a
+     * word of another command, such as a plugin claiming {@code delete}, nor list the same word twice.</p>
+     *
+     * @param parser parser for the command
+     * @throws IllegalArgumentException if a word is blank, contains whitespace, is already registered, or
+     *         is listed twice by {@code parser}
+     */
+    public void register(CommandParser parser) {
+        List<String> words = new ArrayList<>();
+        words.add(parser.getName());
+        words.addAll(parser.getAliases());
+        Set<String> seen = new HashSet<>();
+        for (String word : words) {
+            if (word == null || word.isEmpty() || word.chars().anyMatch(c -> c <= ' ')) {
+                throw new IllegalArgumentException("Invalid command word '" + word + "'");
+            }
+            if (trie.contains(word)) {
+                throw new IllegalArgumentException("Command word '" + word + "' is already registered");
+            }
+            if (!seen.add(word)) {
+                throw new IllegalArgumentException("Command word '" + word + "' is listed twice");
+            }
+        }
+
+        for (String word : words) {
+            trie.put(word, parser);
+        }
+        parsers.add(parser);
+        unknownCommandMessage = null;
+    }
+
+    /**
+     * Parses a full input line into a command.
+     *
+     * @param fullCommand full user input line (may be {@code null})
+     * @return the command to execute
+     * @throws KrakenException if the input is blank, the command word is unknown or ambiguous, or the
+     *         arguments are invalid
+     */
+    public Command parse(String fullCommand) throws KrakenException {
+        CommandLexer lexer = new CommandLexer(fullCommand);
+        CommandParser parser = trie.find(lexer, lexer.wordStart(), lexer.wordEnd());
+        if (parser != null) {
+            return parser.parse(lexer);
+        }
+
+        if (trie.isAmbiguous(lexer, lexer.wordStart(), lexer.wordEnd())) {
+            throw new KrakenException(getAmbiguousCommandMessage(lexer.commandWord()));
+        }
+        throw new KrakenException(getUnknownCommandMessage());
+    }
+
+    /**
+     * Returns the command an input line would be dispatched to, without parsing its arguments.
+     *
+     * @param fullCommand full user input line (may be {@code null})
+     * @return name of the command its command word, alias or abbreviation resolves to, or {@code null} if
+     *         the input is blank or the command word is unknown or ambiguous
+     */
+    public String resolve(String fullCommand) {
+        CommandLexer lexer = new CommandLexer(fullCommand);
+        if (!lexer.hasCommandWord()) {
+            return null;
+        }
+        CommandParser parser = trie.find(lexer, lexer.wordStart(), lexer.wordEnd());
+        return (parser != null) ? parser.getName() : null;
+    }
+
+    /**
+     * Returns the message shown for an unrecognized command, listing the registered commands.
+     *
+     * @return error message naming every command and its aliases
+     */
+    public String getUnknownCommandMessage() {
+        if (unknownCommandMessage == null) {
+            StringBuilder message = new StringBuilder("I don't understand that command. Try: ");
+            for (int i = 0; i < parsers.size(); i++) {
+                CommandParser parser = parsers.get(i);
+                message.append((i == 0) ? "" : ", ").append(parser.getName());
+                if (!parser.getAliases().isEmpty()) {
+                    message.append(" (").append(String.join(", ", parser.getAliases())).append(")");
+                }
+            }
+            unknownCommandMessage = message.toString();
+        }
+        return unknownCommandMessage;
+    }
+
+    private String getAmbiguousCommandMessage(String prefix) {
+        List<String> candidates = new ArrayList<>();
+        for (CommandParser parser : parsers) {
+            if (!parser.allowsAbbreviation()) {
+                continue;
+            }
+            boolean matches = parser.getName().startsWith(prefix)
+                    || parser.getAliases().stream().anyMatch(alias -> alias.startsWith(prefix));
+            if (matches) {
+                candidates.add(parser.getName());
+            }
+        }
+        return "'" + prefix + "' could be any of: " + String.join(", ", candidates)
+                + ". Please type more of the command.";
+    }
+}
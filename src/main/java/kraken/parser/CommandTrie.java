@@ -0,0 +1,97 @@
+package kraken.parser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A prefix trie from command words to their parsers.
+ *
+ * <p>Every node remembers both the parser whose word ends there and the single parser reachable through
+ * it by abbreviation (if exactly one is), so resolving a word is one walk down the trie, proportional to
+ * the word's length and independent of how many commands are registered.</p>
+ */
+final class CommandTrie {
+    private final Node root = new Node();
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private CommandParser exact;
+        private CommandParser abbreviated;
+        private boolean isAmbiguous;
+    }
+
+    /**
+     * Returns whether the given word is already mapped to a parser.
+     *
+     * @param word command word or alias
+     * @return {@code true} if {@code word} is taken
+     */
+    boolean contains(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.children.get(word.charAt(i));
+        }
+        return node != null && node.exact != null;
+    }
+
+    /**
+     * Maps a word to a parser.
+     *
+     * @param word command word or alias (not already mapped)
+     * @param parser parser for the word
+     */
+    void put(String word, CommandParser parser) {
+        assert !word.isEmpty() && !contains(word) : "Command word already registered: " + word;
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), c -> new Node());
+            if (parser.allowsAbbreviation() && !node.isAmbiguous) {
+                if (node.abbreviated == null) {
+                    node.abbreviated = parser;
+                } else if (node.abbreviated != parser) {
+                    node.abbreviated = null;
+                    node.isAmbiguous = true;
+                }
+            }
+        }
+        node.exact = parser;
+    }
+
+    /**
+     * Resolves the word spanning {@code [start, end)} of the scanned input.
+     *
+     * @param input scanned input line
+     * @param start first character of the word
+     * @param end end of the word (exclusive)
+     * @return the parser for an exact or abbreviated match, or {@code null} otherwise
+     */
+    CommandParser find(CommandLexer input, int start, int end) {
+        Node node = walk(input, start, end);
+        if (node == null) {
+            return null;
+        }
+        return (node.exact != null) ? node.exact : node.abbreviated;
+    }
+
+    /**
+     * Returns whether the word spanning {@code [start, end)} is a prefix of several commands' words
+     * without being a word itself.
+     *
+     * @param input scanned input line
+     * @param start first character of the word
+     * @param end end of the word (exclusive)
+     * @return {@code true} if the word is an ambiguous abbreviation
+     */
+    boolean isAmbiguous(CommandLexer input, int start, int end) {
+        Node node = walk(input, start, end);
+        return node != null && node.exact == null && node.isAmbiguous;
+    }
+
+    private Node walk(CommandLexer input, int start, int end) {
+        Node node = root;
+        for (int i = start; i < end && node != null; i++) {
+            node = node.children.get(input.charAt(i));
+        }
+        return (node == root) ? null : node;
+    }
+}
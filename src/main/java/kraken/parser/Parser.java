@@ -2,32 +2,48 @@ package kraken.parser;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import kraken.command.Command;
+import kraken.command.ConflictsCommand;
 import kraken.command.DeadlineCommand;
 import kraken.command.DeleteCommand;
 import kraken.command.EventCommand;
 import kraken.command.ExitCommand;
 import kraken.command.FindCommand;
+import kraken.command.FreeCommand;
+import kraken.command.FuzzyFindCommand;
 import kraken.command.ListCommand;
 import kraken.command.MarkCommand;
 import kraken.command.OnCommand;
+import kraken.command.QueryCommand;
+import kraken.command.StatsCommand;
 import kraken.command.TodoCommand;
 import kraken.command.UnmarkCommand;
+import kraken.command.UpcomingCommand;
 import kraken.exception.KrakenException;
+import kraken.task.Recurrence;
+import kraken.task.SortOrder;
+import kraken.task.TaskQuery;
+import kraken.task.TaskType;
 import kraken.util.DateTimeUtil;
 
 /**
  * Parses user input into executable commands.
+ *
+ * <p>Dispatch on the command word goes through the default {@link CommandRegistry}; this class supplies
+ * the parsers of the built-in commands.</p>
  */
 public class Parser {
-    private static final String UNKNOWN_COMMAND_MESSAGE = "I don't understand that command. "
-            + "Try: todo (t), list (l), find (f), deadline, event, on, mark, unmark, delete, bye";
-    private static final String DEADLINE_USAGE = "Usage: deadline <description> /by <date>";
-    private static final String EVENT_USAGE = "Usage: event <description> /from <start> /to <end>";
-
-    private static int requireMarkerIndex(String input, String marker, String errorMessage) throws KrakenException {
-        int index = input.indexOf(marker);
+    private static final String DEADLINE_USAGE = "Usage: deadline <description> /by <date> [/every <unit>]";
+    private static final String LIST_USAGE = "Usage: list [--sort by-date|by-description]";
+    private static final String QUERY_USAGE = "Usage: query <key:value>... "
+            + "(keys: type, done, before, after, text; e.g. query type:deadline done:0 text:report)";
+    private static final String EVENT_USAGE = "Usage: event <description> /from <start> /to <end> [/every <unit>]";
+    private static final String FREE_USAGE = "Usage: free <date> [/to <date>] [min-duration, e.g. 45m or 1h30m]";
+
+    private static int requireMarkerIndex(int index, String errorMessage) throws KrakenException {
         if (index == -1) {
             throw new KrakenException(errorMessage);
         }
@@ -41,62 +57,162 @@ public class Parser {
         return value;
     }
 
+    private static Recurrence parseRecurrence(String unit, String usage) throws KrakenException {
+        Recurrence recurrence = Recurrence.fromName(unit);
+        if (recurrence == null) {
+            throw new KrakenException("Unknown repeat unit: " + unit
+                    + " (expected day, week, month or year). " + usage);
+        }
+        return recurrence;
+    }
+
     /**
      * Parses the given user input into an executable {@link Command}.
      *
-     * <p>The first token is treated as the command word; the remainder (if any) is passed to a
-     * command-specific parser.</p>
+     * <p>The first token is treated as the command word and may be abbreviated to any unambiguous
+     * prefix; the remainder (if any) is passed to a command-specific parser. The line is tokenized by a
+     * single scan of {@link CommandLexer}, which also locates the {@code /by}, {@code /from}, {@code /to}
+     * and {@code /every} markers.</p>
      *
      * @param fullCommand full user input line (may be {@code null})
      * @return a concrete {@link Command} instance
      * @throws KrakenException if the input is blank, unknown, or fails validation
      */
     public static Command parse(String fullCommand) throws KrakenException {
-        String trimmed = (fullCommand == null) ? "" : fullCommand.trim();
+        return DefaultRegistry.INSTANCE.parse(fullCommand);
+    }
+
+    /**
+     * Returns whether the given input is a {@code find} command with a keyword, typed with any word that
+     * resolves to it, such as {@code f} or {@code fin}.
+     *
+     * @param fullCommand full user input line (may be {@code null})
+     * @return {@code true} if the input would run {@code find} with non-blank arguments
+     */
+    public static boolean isFindWithKeyword(String fullCommand) {
+        return "find".equals(DefaultRegistry.INSTANCE.resolve(fullCommand))
+                && new CommandLexer(fullCommand).hasArgs();
+    }
+
+    /**
+     * Registers the built-in commands, in the order they are listed in help messages.
+     *
+     * @param registry registry to add the built-in commands to
+     */
+    static void registerBuiltIns(CommandRegistry registry) {
+        registry.register(new BuiltIn("todo", List.of("t"), input -> parseTodo(input.args())));
+        registry.register(new BuiltIn("list", List.of("l"), Parser::parseList));
+        registry.register(new BuiltIn("find", List.of("f"), input -> parseFind(input.args())));
+        registry.register(new BuiltIn("deadline", List.of(), Parser::parseDeadline));
+        registry.register(new BuiltIn("event", List.of(), Parser::parseEvent));
+        registry.register(new BuiltIn("on", List.of(), input -> parseOn(input.args())));
+        registry.register(new BuiltIn("upcoming", List.of(), input -> parseUpcoming(input.args())));
+        registry.register(new BuiltIn("query", List.of(), input -> parseQuery(input, false)));
+        registry.register(new BuiltIn("explain", List.of(), input -> parseQuery(input, true)));
+        registry.register(new BuiltIn("stats", List.of(), input -> new StatsCommand()));
+        registry.register(new BuiltIn("conflicts", List.of(), input -> new ConflictsCommand()));
+        registry.register(new BuiltIn("free", List.of(), Parser::parseFree));
+        registry.register(new BuiltIn("mark", List.of(), input -> parseMark(input.args())));
+        registry.register(new BuiltIn("unmark", List.of(), input -> parseUnmark(input.args())));
+        // Deleting and exiting are never abbreviated, so a stray "d" or "b" cannot lose a task or close the app.
+        registry.register(new UnabbreviatedBuiltIn("delete", input -> parseDelete(input.args())));
+        registry.register(new UnabbreviatedBuiltIn("bye", input -> new ExitCommand()));
+    }
+
+    /**
+     * Holds the registry used by {@link #parse(String)}, created on first use.
+     */
+    private static final class DefaultRegistry {
+        private static final CommandRegistry INSTANCE = CommandRegistry.createDefault();
+    }
+
+    /**
+     * Parses the arguments of a built-in command.
+     */
+    private interface ArgumentParser {
+        Command parse(CommandLexer input) throws KrakenException;
+    }
+
+    /**
+     * A built-in command word together with its aliases and argument parser.
+     */
+    private static class BuiltIn implements CommandParser {
+        private final String name;
+        private final List<String> aliases;
+        private final ArgumentParser argumentParser;
+
+        BuiltIn(String name, List<String> aliases, ArgumentParser argumentParser) {
+            this.name = name;
+            this.aliases = aliases;
+            this.argumentParser = argumentParser;
+        }
 
-        if (trimmed.isEmpty()) {
-            throw new KrakenException(UNKNOWN_COMMAND_MESSAGE);
+        @Override
+        public String getName() {
+            return name;
         }
 
-        String[] parts = trimmed.split("\\s+", 2);
-        String commandWord = parts[0];
-        String args = (parts.length < 2) ? "" : parts[1];
+        @Override
+        public List<String> getAliases() {
+            return aliases;
+        }
+
+        @Override
+        public Command parse(CommandLexer input) throws KrakenException {
+            return argumentParser.parse(input);
+        }
+    }
 
-        switch (commandWord) {
-        case "bye":
-            return new ExitCommand();
-        case "l":
-        case "list":
+    /**
+     * A built-in command that must be typed in full.
+     */
+    private static class UnabbreviatedBuiltIn extends BuiltIn {
+        UnabbreviatedBuiltIn(String name, ArgumentParser argumentParser) {
+            super(name, List.of(), argumentParser);
+        }
+
+        @Override
+        public boolean allowsAbbreviation() {
+            return false;
+        }
+    }
+
+    /**
+     * Parses arguments for the {@code list} command.
+     *
+     * <p>Expected format: {@code list} or {@code list --sort <order>}.</p>
+     *
+     * @param lexer scanned input line
+     * @return a {@link ListCommand}
+     * @throws KrakenException if the arguments are not a valid sort option
+     */
+    private static Command parseList(CommandLexer lexer) throws KrakenException {
+        if (!lexer.hasArgs()) {
             return new ListCommand();
-        case "f":
-        case "find":
-            return parseFind(args);
-        case "t":
-        case "todo":
-            return parseTodo(args);
-        case "deadline":
-            return parseDeadline(args);
-        case "event":
-            return parseEvent(args);
-        case "on":
-            return parseOn(args);
-        case "mark":
-            return parseMark(args);
-        case "unmark":
-            return parseUnmark(args);
-        case "delete":
-            return parseDelete(args);
-        default:
-            throw new KrakenException(UNKNOWN_COMMAND_MESSAGE);
         }
 
+        List<String> tokens = lexer.argWords();
+        if (!tokens.get(0).equals("--sort")) {
+            throw new KrakenException("Unknown option '" + tokens.get(0) + "'. " + LIST_USAGE);
+        }
+
+        String orderName = String.join(" ", tokens.subList(1, tokens.size()));
+        requireNonEmpty(orderName, "Please specify a sort order. " + LIST_USAGE);
+        SortOrder order = SortOrder.fromName(orderName);
+        if (order == null) {
+            throw new KrakenException("Unknown sort order '" + orderName + "'. " + LIST_USAGE);
+        }
+        return new ListCommand(order);
     }
 
     /**
      * Parses arguments for the {@code find} command.
      *
+     * <p>A keyword prefixed with {@code ~} requests a fuzzy search for a single, possibly misspelt
+     * word.</p>
+     *
      * @param args raw arguments after the command word
-     * @return a {@link FindCommand}
+     * @return a {@link FindCommand} or {@link FuzzyFindCommand}
      * @throws KrakenException if the keyword is missing/blank
      */
     private static Command parseFind(String args) throws KrakenException {
@@ -104,7 +220,15 @@ public class Parser {
         if (keyword.isEmpty()) {
             throw new KrakenException("Please specify a keyword. Usage: find <keyword>");
         }
-        return new FindCommand(keyword);
+        if (!keyword.startsWith("~")) {
+            return new FindCommand(keyword);
+        }
+
+        String word = keyword.substring(1).trim();
+        if (word.isEmpty() || word.chars().anyMatch(Character::isWhitespace)) {
+            throw new KrakenException("Fuzzy search takes a single word. Usage: find ~<word>");
+        }
+        return new FuzzyFindCommand(word);
     }
 
     /**
@@ -126,56 +250,68 @@ public class Parser {
     /**
      * Parses arguments for the {@code deadline} command.
      *
-     * <p>Expected format: {@code deadline <description> /by <date>}.</p>
+     * <p>Expected format: {@code deadline <description> /by <date> [/every <unit>]}, where the optional unit
+     * is one of {@code day}, {@code week}, {@code month} or {@code year}.</p>
      *
-     * @param args raw arguments after the command word
+     * @param lexer the scanned input line
      * @return a {@link DeadlineCommand}
      * @throws KrakenException if required fields are missing or the date/time is invalid
      */
-    private static Command parseDeadline(String args) throws KrakenException {
-        String remainder = (args == null) ? "" : args.trim();
-
-        requireNonEmpty(remainder, "The description of a deadline cannot be empty. " + DEADLINE_USAGE);
+    private static Command parseDeadline(CommandLexer lexer) throws KrakenException {
+        if (!lexer.hasArgs()) {
+            throw new KrakenException("The description of a deadline cannot be empty. " + DEADLINE_USAGE);
+        }
 
-        String byMarker = "/by";
-        int byIndex = requireMarkerIndex(remainder, byMarker, "A deadline requires a /by date. " + DEADLINE_USAGE);
+        int byIndex = requireMarkerIndex(lexer.byIndex(), "A deadline requires a /by date. " + DEADLINE_USAGE);
 
-        String description = remainder.substring(0, byIndex).trim();
-        String by = remainder.substring(byIndex + byMarker.length()).trim();
+        String description = lexer.slice(lexer.argsStart(), byIndex);
+        int byEnd = lexer.end();
+        Recurrence recurrence = null;
+        int everyIndex = lexer.everyAfterByIndex();
+        if (everyIndex != -1) {
+            recurrence = parseRecurrence(lexer.rest(everyIndex + CommandLexer.EVERY_MARKER.length()), DEADLINE_USAGE);
+            byEnd = everyIndex;
+        }
+        String by = lexer.slice(byIndex + CommandLexer.BY_MARKER.length(), byEnd);
 
         requireNonEmpty(description, "The description of a deadline cannot be empty. " + DEADLINE_USAGE);
         requireNonEmpty(by, "The /by date of a deadline cannot be empty. " + DEADLINE_USAGE);
 
         LocalDateTime byDateTime = DateTimeUtil.parseUserDateTime(by);
-        return new DeadlineCommand(description, byDateTime);
+        return new DeadlineCommand(description, byDateTime, recurrence);
     }
 
     /**
      * Parses arguments for the {@code event} command.
      *
-     * <p>Expected format: {@code event <description> /from <start> /to <end>}.</p>
+     * <p>Expected format: {@code event <description> /from <start> /to <end> [/every <unit>]}.</p>
      *
-     * @param args raw arguments after the command word
+     * @param lexer the scanned input line
      * @return an {@link EventCommand}
      * @throws KrakenException if required fields are missing or the time range is invalid
      */
-    private static Command parseEvent(String args) throws KrakenException {
-        String remainder = (args == null) ? "" : args.trim();
-
-        requireNonEmpty(remainder, "The description of an event cannot be empty. " + EVENT_USAGE);
+    private static Command parseEvent(CommandLexer lexer) throws KrakenException {
+        if (!lexer.hasArgs()) {
+            throw new KrakenException("The description of an event cannot be empty. " + EVENT_USAGE);
+        }
 
-        String fromMarker = "/from";
-        String toMarker = "/to";
-        int fromIndex = requireMarkerIndex(remainder, fromMarker, "An event requires a /from time. " + EVENT_USAGE);
-        int toIndex = requireMarkerIndex(remainder, toMarker, "An event requires a /to time. " + EVENT_USAGE);
+        int fromIndex = requireMarkerIndex(lexer.fromIndex(), "An event requires a /from time. " + EVENT_USAGE);
+        int toIndex = requireMarkerIndex(lexer.toIndex(), "An event requires a /to time. " + EVENT_USAGE);
 
         if (toIndex < fromIndex) {
             throw new KrakenException("The /from marker must come before /to. " + EVENT_USAGE);
         }
 
-        String description = remainder.substring(0, fromIndex).trim();
-        String from = remainder.substring(fromIndex + fromMarker.length(), toIndex).trim();
-        String to = remainder.substring(toIndex + toMarker.length()).trim();
+        String description = lexer.slice(lexer.argsStart(), fromIndex);
+        String from = lexer.slice(fromIndex + CommandLexer.FROM_MARKER.length(), toIndex);
+        int toEnd = lexer.end();
+        Recurrence recurrence = null;
+        int everyIndex = lexer.everyAfterToIndex();
+        if (everyIndex != -1) {
+            recurrence = parseRecurrence(lexer.rest(everyIndex + CommandLexer.EVERY_MARKER.length()), EVENT_USAGE);
+            toEnd = everyIndex;
+        }
+        String to = lexer.slice(toIndex + CommandLexer.TO_MARKER.length(), toEnd);
 
         requireNonEmpty(description, "The description of an event cannot be empty. " + EVENT_USAGE);
         requireNonEmpty(from, "The /from time of an event cannot be empty. " + EVENT_USAGE);
@@ -187,7 +323,79 @@ public class Parser {
             throw new KrakenException("The /from date/time must not be after /to. " + EVENT_USAGE);
         }
 
-        return new EventCommand(description, fromDateTime, toDateTime);
+        return new EventCommand(description, fromDateTime, toDateTime, recurrence);
+    }
+
+    /**
+     * Parses arguments for the {@code free} command.
+     *
+     * <p>Expected format: {@code free <date> [/to <date>] [min-duration]}, where the duration is a number
+     * of minutes, optionally written with {@code h}/{@code m} units (e.g. {@code 90}, {@code 2h},
+     * {@code 1h30m}).</p>
+     *
+     * @param lexer scanned input line
+     * @return a {@link FreeCommand}
+     * @throws KrakenException if the dates or duration are missing or invalid
+     */
+    private static Command parseFree(CommandLexer lexer) throws KrakenException {
+        String remainder = lexer.args();
+        requireNonEmpty(remainder, "Please specify a date. " + FREE_USAGE);
+
+        List<String> tokens = lexer.argWords();
+        LocalDate from = DateTimeUtil.parseUserDate(tokens.get(0));
+        LocalDate to = from;
+        int next = 1;
+        if (next < tokens.size() && tokens.get(next).equals(CommandLexer.TO_MARKER)) {
+            if (next + 1 >= tokens.size()) {
+                throw new KrakenException("The /to date cannot be empty. " + FREE_USAGE);
+            }
+            to = DateTimeUtil.parseUserDate(tokens.get(next + 1));
+            next += 2;
+        }
+        if (to.isBefore(from)) {
+            throw new KrakenException("The /to date must not be before the first date. " + FREE_USAGE);
+        }
+
+        long minMinutes = FreeCommand.DEFAULT_MIN_MINUTES;
+        if (next < tokens.size()) {
+            minMinutes = parseDurationMinutes(tokens.get(next));
+            next++;
+        }
+        if (next < tokens.size() || minMinutes <= 0) {
+            throw new KrakenException("'" + remainder + "' is not a valid free-slot search. " + FREE_USAGE);
+        }
+        return new FreeCommand(from, to, minMinutes);
+    }
+
+    /**
+     * Parses a duration such as {@code 90}, {@code 90m}, {@code 2h} or {@code 1h30m} into minutes.
+     *
+     * @param text duration text
+     * @return duration in minutes, or {@code -1} if {@code text} is not a valid duration
+     */
+    private static long parseDurationMinutes(String text) {
+        long total = 0;
+        long number = -1;
+        boolean hasUnit = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (c >= '0' && c <= '9') {
+                number = Math.max(number, 0) * 10 + (c - '0');
+                if (number > Integer.MAX_VALUE) {
+                    return -1;
+                }
+            } else if ((c == 'h' || c == 'm') && number >= 0) {
+                total += (c == 'h') ? number * 60 : number;
+                number = -1;
+                hasUnit = true;
+            } else {
+                return -1;
+            }
+        }
+        if (number >= 0) {
+            return hasUnit ? -1 : number;
+        }
+        return hasUnit ? total : -1;
     }
 
     /**
@@ -208,6 +416,94 @@ public class Parser {
         return new OnCommand(date);
     }
 
+    /**
+     * Compiles the predicates of a {@code query} or {@code explain} command into a {@link TaskQuery}.
+     *
+     * <p>Expected format: whitespace-separated {@code key:value} predicates, all of which must hold.
+     * Supported keys are {@code type} (todo/deadline/event), {@code done} (0/1), {@code before} and
+     * {@code after} (dates), and {@code text} (may be repeated).</p>
+     *
+     * @param lexer scanned input line
+     * @param isExplain whether to explain the plan rather than list the matches
+     * @return a {@link QueryCommand}
+     * @throws KrakenException if there are no predicates or a predicate is malformed
+     */
+    private static Command parseQuery(CommandLexer lexer, boolean isExplain) throws KrakenException {
+        requireNonEmpty(lexer.args(), "Please specify at least one predicate. " + QUERY_USAGE);
+
+        TaskType type = null;
+        Boolean isDone = null;
+        LocalDate before = null;
+        LocalDate after = null;
+        List<String> texts = new ArrayList<>();
+
+        for (String predicate : lexer.argWords()) {
+            int colon = predicate.indexOf(':');
+            if (colon <= 0 || colon == predicate.length() - 1) {
+                throw new KrakenException("'" + predicate + "' is not a key:value predicate. " + QUERY_USAGE);
+            }
+            String key = predicate.substring(0, colon);
+            String value = predicate.substring(colon + 1);
+
+            switch (key) {
+            case "type":
+                type = TaskType.fromName(value);
+                if (type == null) {
+                    throw new KrakenException("Unknown task type '" + value + "'. " + QUERY_USAGE);
+                }
+                break;
+            case "done":
+                if (!"0".equals(value) && !"1".equals(value)) {
+                    throw new KrakenException("done must be 0 or 1, not '" + value + "'. " + QUERY_USAGE);
+                }
+                isDone = "1".equals(value);
+                break;
+            case "before":
+                before = DateTimeUtil.parseUserDate(value);
+                break;
+            case "after":
+                after = DateTimeUtil.parseUserDate(value);
+                break;
+            case "text":
+                texts.add(value);
+                break;
+            default:
+                throw new KrakenException("Unknown query key '" + key + "'. " + QUERY_USAGE);
+            }
+        }
+
+        return new QueryCommand(new TaskQuery(type, isDone, before, after, texts), isExplain);
+    }
+
+    /**
+     * Parses arguments for the {@code upcoming} command.
+     *
+     * <p>The count is optional and defaults to {@link UpcomingCommand#DEFAULT_LIMIT}.</p>
+     *
+     * @param args raw arguments after the command word
+     * @return an {@link UpcomingCommand}
+     * @throws KrakenException if the count is not a positive integer
+     */
+    private static Command parseUpcoming(String args) throws KrakenException {
+        String countStr = (args == null) ? "" : args.trim();
+        if (countStr.isEmpty()) {
+            return new UpcomingCommand(UpcomingCommand.DEFAULT_LIMIT);
+        }
+
+        int count;
+        try {
+            count = Integer.parseInt(countStr);
+        } catch (NumberFormatException e) {
+            count = 0;
+        }
+        if (count <= 0) {
+            throw new KrakenException("'" + countStr + "' is not a valid number of tasks. "
+                    + "Usage: upcoming [count]");
+        }
+
+        return new UpcomingCommand(count);
+    }
+
     /**
      * Parses arguments for the {@code mark} command.
      *
@@ -0,0 +1,177 @@
+package kraken.reminder;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import kraken.task.PendingTaskListener;
+import kraken.task.Recurring;
+import kraken.task.Task;
+import kraken.util.DateTimeUtil;
+
+/**
+ * Notifies the user shortly before pending deadlines are due and events start.
+ *
+ * <p>Pending tasks are kept in a queue ordered by their next occurrence, which is updated through
+ * {@link PendingTaskListener} callbacks as tasks are added, marked, unmarked or deleted. A single
+ * scheduler thread sleeps until the earliest reminder is due, so there is one timer in total rather than
+ * one per task, and nothing is rescanned between reminders. Recurring tasks are queued again at their
+ * next occurrence once reminded.</p>
+ *
+ * <p>Reminders are delivered on the scheduler thread; callers that update a UI must hand them over to
+ * the UI thread themselves.</p>
+ */
+public class ReminderScheduler implements PendingTaskListener, AutoCloseable {
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private final ScheduledExecutorService executor;
+    private final Clock clock;
+    private final long leadMinutes;
+    private final Consumer<Task> notifier;
+    private final TreeMap<Long, Set<Task>> queue = new TreeMap<>();
+    private final Map<Task, Long> queuedAt = new HashMap<>();
+    private ScheduledFuture<?> wakeUp;
+    private long wakeUpAt = Long.MAX_VALUE;
+
+    /**
+     * Creates a scheduler that runs on its own daemon thread and uses the system clock.
+     *
+     * @param leadMinutes how many minutes before a task is due to remind about it
+     * @param notifier receives each task as its reminder becomes due
+     */
+    public ReminderScheduler(long leadMinutes, Consumer<Task> notifier) {
+        this(Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kraken-reminders");
+            thread.setDaemon(true);
+            return thread;
+        }), Clock.systemDefaultZone(), leadMinutes, notifier);
+    }
+
+    ReminderScheduler(ScheduledExecutorService executor, Clock clock, long leadMinutes, Consumer<Task> notifier) {
+        assert leadMinutes >= 0 : "Reminder lead time must not be negative";
+        this.executor = Objects.requireNonNull(executor);
+        this.clock = Objects.requireNonNull(clock);
+        this.leadMinutes = leadMinutes;
+        this.notifier = Objects.requireNonNull(notifier);
+    }
+
+    @Override
+    public synchronized void pendingTaskAdded(Task task) {
+        long now = nowEpochMinute();
+        long occurrence = (task instanceof Recurring)
+                ? ((Recurring) task).firstOccurrenceFrom(now)
+                : task.getScheduledEpochMinute();
+        if (occurrence == Task.NOT_SCHEDULED || occurrence < now) {
+            return;
+        }
+        enqueue(task, occurrence);
+        rearm();
+    }
+
+    @Override
+    public synchronized void pendingTaskRemoved(Task task) {
+        Long occurrence = queuedAt.remove(task);
+        if (occurrence == null) {
+            return;
+        }
+        Set<Task> bucket = queue.get(occurrence);
+        bucket.remove(task);
+        if (bucket.isEmpty()) {
+            queue.remove(occurrence);
+        }
+        // A wake-up left pointing at a removed task simply finds nothing due and re-arms.
+    }
+
+    /**
+     * Returns when the next reminder will be delivered, if any task is queued.
+     *
+     * @return date/time of the next reminder, or {@code null} if nothing is queued
+     */
+    public synchronized LocalDateTime getNextReminderAt() {
+        if (queue.isEmpty()) {
+            return null;
+        }
+        return DateTimeUtil.fromEpochMinute(queue.firstKey() - leadMinutes);
+    }
+
+    /**
+     * Stops the scheduler thread; no further reminders are delivered.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void enqueue(Task task, long occurrence) {
+        Long previous = queuedAt.put(task, occurrence);
+        assert previous == null : "Task queued twice for reminders: " + task;
+        queue.computeIfAbsent(occurrence, key -> new LinkedHashSet<>()).add(task);
+    }
+
+    /**
+     * Makes sure a wake-up is scheduled no later than the earliest queued reminder.
+     */
+    private void rearm() {
+        if (queue.isEmpty() || executor.isShutdown()) {
+            return;
+        }
+        long remindAt = queue.firstKey() - leadMinutes;
+        if (wakeUp != null && !wakeUp.isDone() && wakeUpAt <= remindAt) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        long delayMillis = Math.max(0, remindAt * MILLIS_PER_MINUTE - nowEpochMillis());
+        wakeUpAt = remindAt;
+        wakeUp = executor.schedule(this::deliverDueReminders, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void deliverDueReminders() {
+        List<Task> due = new ArrayList<>();
+        synchronized (this) {
+            wakeUp = null;
+            long now = nowEpochMinute();
+            while (!queue.isEmpty() && queue.firstKey() - leadMinutes <= now) {
+                for (Task task : queue.pollFirstEntry().getValue()) {
+                    queuedAt.remove(task);
+                    due.add(task);
+                }
+            }
+            for (Task task : due) {
+                if (task instanceof Recurring) {
+                    // Skip occurrences already inside the lead window so each reminder is delivered once.
+                    enqueue(task, ((Recurring) task).firstOccurrenceFrom(now + leadMinutes + 1));
+                }
+            }
+            rearm();
+        }
+        for (Task task : due) {
+            notifier.accept(task);
+        }
+    }
+
+    private long nowEpochMinute() {
+        return Math.floorDiv(nowEpochMillis(), MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * Returns the current local date/time as milliseconds on the same scale as task epoch minutes.
+     */
+    private long nowEpochMillis() {
+        return LocalDateTime.now(clock).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
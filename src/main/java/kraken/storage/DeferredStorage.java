@@ -0,0 +1,68 @@
+package kraken.storage;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import kraken.task.Task;
+
+/**
+ * A {@link Storage} that holds back saves so that a long run of commands writes the file once.
+ *
+ * <p>Each {@link #save(List)} only remembers the latest task list; the file is written by {@link #flush()},
+ * or automatically after every {@code saveInterval} saves when an interval is set. Commands pass the live
+ * view from {@link kraken.task.TaskList#asList()}, so a flush always writes the current tasks.</p>
+ */
+public class DeferredStorage extends Storage {
+    private final int saveInterval;
+    private List<Task> pendingTasks;
+    private int pendingSaves;
+
+    /**
+     * Creates a deferred storage that persists to {@code data/kraken.txt}.
+     *
+     * @param saveInterval number of saves after which the file is written anyway, or {@code 0} to only
+     *         write on {@link #flush()}
+     */
+    public DeferredStorage(int saveInterval) {
+        this(DEFAULT_DATA_FILE, saveInterval);
+    }
+
+    /**
+     * Creates a deferred storage that persists to the given file path.
+     *
+     * @param dataFile path to the save file
+     * @param saveInterval number of saves after which the file is written anyway, or {@code 0} to only
+     *         write on {@link #flush()}
+     */
+    public DeferredStorage(Path dataFile, int saveInterval) {
+        super(dataFile);
+        assert saveInterval >= 0 : "Save interval must not be negative";
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Records the tasks to persist, writing them only if the save interval has been reached.
+     *
+     * @param tasks tasks to persist
+     */
+    @Override
+    public void save(List<Task> tasks) {
+        pendingTasks = tasks;
+        pendingSaves++;
+        if (saveInterval > 0 && pendingSaves >= saveInterval) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the most recently saved tasks to disk, if any save is pending.
+     */
+    public void flush() {
+        if (pendingTasks == null) {
+            return;
+        }
+        super.save(pendingTasks);
+        pendingTasks = null;
+        pendingSaves = 0;
+    }
+}
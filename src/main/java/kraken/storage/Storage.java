@@ -6,6 +6,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -14,6 +15,10 @@ import java.util.Optional;
 import kraken.exception.KrakenException;
 import kraken.task.Deadline;
 import kraken.task.Event;
+import kraken.task.Recurrence;
+import kraken.task.Recurring;
+import kraken.task.RecurringDeadline;
+import kraken.task.RecurringEvent;
 import kraken.task.Task;
 import kraken.task.Todo;
 import kraken.util.DateTimeUtil;
@@ -25,17 +30,22 @@ import kraken.util.DateTimeUtil;
  * - Todo:     {@code T | 0/1 | [description]}
  * - Deadline: {@code D | 0/1 | [description] | [by ISO date-time, e.g., 2019-12-02T18:00]}
  * - Event:    {@code E | 0/1 | [description] | [from ISO date-time] | [to ISO date-time]}
+ *
+ * Recurring deadlines and events append one more field holding the repeat unit
+ * ({@code day}, {@code week}, {@code month} or {@code year}); only the rule and its first
+ * occurrence are stored, never the expanded occurrences.
  */
 public class Storage {
     private static final String DELIMITER = " | ";
     private static final String SPLIT_REGEX = "\\s\\|\\s";
+    static final Path DEFAULT_DATA_FILE = Paths.get("data", "kraken.txt");
     private final Path dataFile;
 
     /**
      * Creates a {@code Storage} instance that persists to {@code data/kraken.txt}.
      */
     public Storage() {
-        this.dataFile = Paths.get("data", "kraken.txt");
+        this.dataFile = DEFAULT_DATA_FILE;
     }
 
     /**
@@ -131,14 +141,16 @@ public class Storage {
         if (task instanceof Deadline) {
             Deadline d = (Deadline) task;
             return "D" + DELIMITER + doneFlag + DELIMITER + d.getDescription()
-                    + DELIMITER + DateTimeUtil.formatForStorage(d.getBy());
+                    + DELIMITER + DateTimeUtil.formatForStorage(d.getByEpochMinute())
+                    + serializeRecurrence(task);
         }
 
         if (task instanceof Event) {
             Event e = (Event) task;
             return "E" + DELIMITER + doneFlag + DELIMITER + e.getDescription()
-                    + DELIMITER + DateTimeUtil.formatForStorage(e.getFrom())
-                    + DELIMITER + DateTimeUtil.formatForStorage(e.getTo());
+                    + DELIMITER + DateTimeUtil.formatForStorage(e.getFromEpochMinute())
+                    + DELIMITER + DateTimeUtil.formatForStorage(e.getToEpochMinute())
+                    + serializeRecurrence(task);
         }
 
         // Unknown task type; skip persisting it to avoid corrupting the save file.
@@ -146,6 +158,13 @@ public class Storage {
         return null;
     }
 
+    private String serializeRecurrence(Task task) {
+        if (!(task instanceof Recurring)) {
+            return "";
+        }
+        return DELIMITER + ((Recurring) task).getRecurrence().getUnitName();
+    }
+
     /**
      * Parses a single persisted line into a {@link Task}.
      *
@@ -194,16 +213,22 @@ public class Storage {
     }
 
     private Optional<Task> parseDeadlineLine(String[] parts, boolean isDone, String originalLine) {
-        if (parts.length != 4) {
+        if (parts.length != 4 && parts.length != 5) {
             warnCorruptLine(originalLine);
             return Optional.empty();
         }
         try {
-            return createTask(
-                    new Deadline(parts[2].trim(), DateTimeUtil.parseStorageDateTime(parts[3].trim())),
-                    isDone,
-                    originalLine
-            );
+            String description = parts[2].trim();
+            LocalDateTime by = DateTimeUtil.parseStorageDateTime(parts[3].trim());
+            if (parts.length == 4) {
+                return createTask(new Deadline(description, by), isDone, originalLine);
+            }
+            Recurrence recurrence = Recurrence.fromName(parts[4]);
+            if (recurrence == null) {
+                warnCorruptLine(originalLine);
+                return Optional.empty();
+            }
+            return createTask(new RecurringDeadline(description, by, recurrence), isDone, originalLine);
         } catch (KrakenException e) {
             warnCorruptLine(originalLine);
             return Optional.empty();
@@ -211,20 +236,23 @@ public class Storage {
     }
 
     private Optional<Task> parseEventLine(String[] parts, boolean isDone, String originalLine) {
-        if (parts.length != 5) {
+        if (parts.length != 5 && parts.length != 6) {
             warnCorruptLine(originalLine);
             return Optional.empty();
         }
         try {
-            return createTask(
-                    new Event(
-                            parts[2].trim(),
-                            DateTimeUtil.parseStorageDateTime(parts[3].trim()),
-                            DateTimeUtil.parseStorageDateTime(parts[4].trim())
-                    ),
-                    isDone,
-                    originalLine
-            );
+            String description = parts[2].trim();
+            LocalDateTime from = DateTimeUtil.parseStorageDateTime(parts[3].trim());
+            LocalDateTime to = DateTimeUtil.parseStorageDateTime(parts[4].trim());
+            if (parts.length == 5) {
+                return createTask(new Event(description, from, to), isDone, originalLine);
+            }
+            Recurrence recurrence = Recurrence.fromName(parts[5]);
+            if (recurrence == null) {
+                warnCorruptLine(originalLine);
+                return Optional.empty();
+            }
+            return createTask(new RecurringEvent(description, from, to, recurrence), isDone, originalLine);
         } catch (KrakenException e) {
             warnCorruptLine(originalLine);
             return Optional.empty();
@@ -247,17 +275,9 @@ public class Storage {
             return Optional.empty();
         }
 
-        if (task instanceof Deadline) {
-            Deadline d = (Deadline) task;
-            if (d.getBy() == null) {
-                warnCorruptLine(originalLine);
-                return Optional.empty();
-            }
-        }
-
         if (task instanceof Event) {
             Event e = (Event) task;
-            if (e.getFrom() == null || e.getTo() == null || e.getFrom().isAfter(e.getTo())) {
+            if (e.getFromEpochMinute() > e.getToEpochMinute()) {
                 warnCorruptLine(originalLine);
                 return Optional.empty();
             }
@@ -0,0 +1,189 @@
+package kraken.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An append-only on-disk log of transcript entries that can be read back by position.
+ *
+ * <p>Each entry is stored as one UTF-8 line, with backslashes and line breaks escaped. Only the byte
+ * offset and length of every entry are kept in memory, so a range of entries can be read back with a single
+ * seek while the memory used stays at twelve bytes per entry however long the entries are. An entry can be
+ * replaced, e.g. once a reply that was still pending is complete; the new text is appended to the file and
+ * the entry pointed at it, so a range containing replaced entries takes one seek per contiguous run. The
+ * file is truncated when the log is opened; it holds one session.</p>
+ */
+public class TranscriptLog implements Closeable {
+    private final Path file;
+    private final OutputStream out;
+    private RandomAccessFile in;
+    /** {@code starts[i]} is where entry {@code i} starts in the file. */
+    private long[] starts = new long[64];
+    /** {@code lengths[i]} is the length in bytes of entry {@code i}, including its line break. */
+    private int[] lengths = new int[64];
+    private long end;
+    private int size;
+
+    /**
+     * Opens an empty log at the given path, creating parent directories as needed.
+     *
+     * @param file path of the log file; existing content is discarded
+     * @throws IOException if the file cannot be created
+     */
+    public TranscriptLog(Path file) throws IOException {
+        this.file = file;
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.out = new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * Appends an entry.
+     *
+     * @param entry entry text; may contain line breaks
+     * @return position of the entry in the log
+     * @throws IOException if writing fails
+     */
+    public int append(String entry) throws IOException {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            lengths = Arrays.copyOf(lengths, size * 2);
+        }
+        write(size, entry);
+        return size++;
+    }
+
+    /**
+     * Replaces the entry at the given position.
+     *
+     * @param position position of the entry to replace
+     * @param entry new entry text; may contain line breaks
+     * @throws IOException if writing fails
+     */
+    public void replace(int position, String entry) throws IOException {
+        assert 0 <= position && position < size : "Invalid transcript position";
+        write(position, entry);
+    }
+
+    private void write(int position, String entry) throws IOException {
+        byte[] bytes = (escape(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        out.write(bytes);
+        starts[position] = end;
+        lengths[position] = bytes.length;
+        end += bytes.length;
+    }
+
+    /**
+     * Returns the number of entries in the log.
+     *
+     * @return entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reads the entries at positions {@code [from, to)}.
+     *
+     * @param from first position (inclusive)
+     * @param to last position (exclusive)
+     * @return the entries, in log order
+     * @throws IOException if reading fails
+     */
+    public List<String> read(int from, int to) throws IOException {
+        assert 0 <= from && from <= to && to <= size : "Invalid transcript range";
+        out.flush();
+        if (in == null) {
+            in = new RandomAccessFile(file.toFile(), "r");
+        }
+        List<String> entries = new ArrayList<>(to - from);
+        int runStart = from;
+        while (runStart < to) {
+            int runEnd = runStart + 1;
+            while (runEnd < to && starts[runEnd] == starts[runEnd - 1] + lengths[runEnd - 1]) {
+                runEnd++;
+            }
+            long first = starts[runStart];
+            byte[] bytes = new byte[(int) (starts[runEnd - 1] + lengths[runEnd - 1] - first)];
+            in.seek(first);
+            in.readFully(bytes);
+            for (int i = runStart; i < runEnd; i++) {
+                String line = new String(bytes, (int) (starts[i] - first), lengths[i] - 1, StandardCharsets.UTF_8);
+                entries.add(unescape(line));
+            }
+            runStart = runEnd;
+        }
+        return entries;
+    }
+
+    /**
+     * Flushes and closes the log file.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            out.close();
+        } finally {
+            if (in != null) {
+                in.close();
+            }
+        }
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+                escaped.append("\\\\");
+                break;
+            case '\n':
+                escaped.append("\\n");
+                break;
+            case '\r':
+                escaped.append("\\r");
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String unescape(String line) {
+        StringBuilder text = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != '\\' || i + 1 == line.length()) {
+                text.append(c);
+                continue;
+            }
+            i++;
+            char next = line.charAt(i);
+            if (next == 'n') {
+                text.append('\n');
+            } else if (next == 'r') {
+                text.append('\r');
+            } else {
+                text.append(next);
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package kraken.task;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree over terms under Levenshtein distance.
+ *
+ * <p>Each child edge is labelled with its distance to the parent, so by the triangle inequality a
+ * search for terms within distance {@code k} of a query only needs to descend into children whose label
+ * lies in {@code [d - k, d + k]}, where {@code d} is the query's distance to the current node. This
+ * visits a small fraction of the dictionary instead of comparing against every term.</p>
+ */
+final class BkTree {
+    private Node root;
+
+    /**
+     * Adds a term to the tree; adding a term that is already present has no effect.
+     *
+     * @param term term to add (expected to be non-empty)
+     */
+    void add(String term) {
+        if (root == null) {
+            root = new Node(term);
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(term, node.term);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.child(distance);
+            if (child == null) {
+                node.addChild(distance, new Node(term));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Collects every term within {@code maxDistance} edits of {@code query}.
+     *
+     * @param query term to search around
+     * @param maxDistance maximum Levenshtein distance (inclusive)
+     * @param out list to append matching terms to
+     */
+    void search(String query, int maxDistance, List<String> out) {
+        if (root != null) {
+            search(root, query, maxDistance, out);
+        }
+    }
+
+    private static void search(Node node, String query, int maxDistance, List<String> out) {
+        int distance = distance(query, node.term);
+        if (distance <= maxDistance) {
+            out.add(node.term);
+        }
+        if (node.children == null) {
+            return;
+        }
+        for (int edge = Math.max(1, distance - maxDistance); edge <= distance + maxDistance; edge++) {
+            Node child = node.children.get(edge);
+            if (child != null) {
+                search(child, query, maxDistance, out);
+            }
+        }
+    }
+
+    /**
+     * Computes the Levenshtein distance between two strings using two rolling rows.
+     */
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static final class Node {
+        private final String term;
+        private Map<Integer, Node> children;
+
+        private Node(String term) {
+            this.term = term;
+        }
+
+        private Node child(int distance) {
+            return (children == null) ? null : children.get(distance);
+        }
+
+        private void addChild(int distance, Node child) {
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            children.put(distance, child);
+        }
+    }
+}
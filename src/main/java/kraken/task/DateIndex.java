@@ -0,0 +1,128 @@
+package kraken.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Orders tasks by a date/time key, given in epoch minutes, so range and "next k" lookups avoid scanning the
+ * whole list.
+ *
+ * <p>Tasks sharing the same key are kept in list order within their bucket.</p>
+ */
+final class DateIndex {
+    private final NavigableMap<Long, List<Task>> buckets = new TreeMap<>();
+    private int size;
+
+    /**
+     * Adds a task under the given key.
+     *
+     * @param key epoch minute the task is ordered by
+     * @param task task to index
+     */
+    void add(long key, Task task) {
+        List<Task> bucket = buckets.computeIfAbsent(key, k -> new ArrayList<>(1));
+        int insertAt = Collections.binarySearch(bucket, task, (a, b) -> Integer.compare(a.sequence, b.sequence));
+        assert insertAt < 0 : "Task is already indexed under " + key;
+        bucket.add(-insertAt - 1, task);
+        size++;
+    }
+
+    /**
+     * Removes a task previously added under the given key.
+     *
+     * @param key epoch minute the task was indexed under
+     * @param task task to remove
+     */
+    void remove(long key, Task task) {
+        List<Task> bucket = buckets.get(key);
+        if (bucket == null || !bucket.remove(task)) {
+            return;
+        }
+        size--;
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} tasks whose key is strictly after {@code after}, in key order.
+     *
+     * @param after exclusive lower bound
+     * @param limit maximum number of tasks to return
+     * @return matching tasks in ascending key order
+     */
+    List<Task> firstAfter(long after, int limit) {
+        List<Task> result = new ArrayList<>(Math.min(limit, size));
+        for (List<Task> bucket : buckets.tailMap(after, false).values()) {
+            for (Task task : bucket) {
+                if (result.size() == limit) {
+                    return result;
+                }
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the tasks whose key lies in {@code [from, to)}, in key order.
+     *
+     * @param from inclusive lower bound, or {@code null} for no lower bound
+     * @param to exclusive upper bound, or {@code null} for no upper bound
+     * @return matching tasks in ascending key order
+     */
+    List<Task> range(Long from, Long to) {
+        List<Task> result = new ArrayList<>();
+        for (List<Task> bucket : bucketsIn(from, to).values()) {
+            result.addAll(bucket);
+        }
+        return result;
+    }
+
+    /**
+     * Counts the tasks whose key lies in {@code [from, to)}, stopping early once {@code limit} is reached.
+     *
+     * @param from inclusive lower bound, or {@code null} for no lower bound
+     * @param to exclusive upper bound, or {@code null} for no upper bound
+     * @param limit count at which to stop
+     * @return the number of matching tasks, capped at {@code limit}
+     */
+    int countRange(Long from, Long to, int limit) {
+        if (from == null && to == null) {
+            return Math.min(size, limit);
+        }
+        int count = 0;
+        for (List<Task> bucket : bucketsIn(from, to).values()) {
+            count += bucket.size();
+            if (count >= limit) {
+                return limit;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of indexed tasks.
+     *
+     * @return indexed task count
+     */
+    int size() {
+        return size;
+    }
+
+    private NavigableMap<Long, List<Task>> bucketsIn(Long from, Long to) {
+        if (from != null && to != null) {
+            return (from < to) ? buckets.subMap(from, true, to, false) : new TreeMap<>();
+        }
+        if (from != null) {
+            return buckets.tailMap(from, true);
+        }
+        if (to != null) {
+            return buckets.headMap(to, false);
+        }
+        return buckets;
+    }
+}
@@ -6,21 +6,26 @@ import kraken.util.DateTimeUtil;
 
 /**
  * Represents a task that must be done by a specific date/time.
+ *
+ * <p>The due date/time is held as epoch minutes (see {@link DateTimeUtil}) rather than as a
+ * {@link LocalDateTime}, which would cost three objects per task; {@link #getBy()} builds one on demand.</p>
  */
 public class Deadline extends Task {
 
-    protected LocalDateTime by;
+    protected long byEpochMinute;
 
     /**
      * Creates a deadline task.
      *
+     * <p>Seconds and nanoseconds of {@code by} are dropped; deadlines have minute precision.</p>
+     *
      * @param description task description
      * @param by due date/time
      */
     public Deadline(String description, LocalDateTime by) {
         super(description);
-        this.by = by;
-        assert this.by != null : "Deadline date/time must not be null";
+        assert by != null : "Deadline date/time must not be null";
+        this.byEpochMinute = DateTimeUtil.toEpochMinute(by);
     }
 
     /**
@@ -29,17 +34,65 @@ public class Deadline extends Task {
      * @return due date/time
      */
     public LocalDateTime getBy() {
-        assert by != null : "Deadline date/time invariant violated";
-        return by;
+        return DateTimeUtil.fromEpochMinute(byEpochMinute);
+    }
+
+    /**
+     * Returns the due date/time of this deadline as epoch minutes.
+     *
+     * @return due date/time in minutes since 1970-01-01T00:00
+     */
+    public long getByEpochMinute() {
+        return byEpochMinute;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link TaskType#DEADLINE}
+     */
+    @Override
+    public TaskType getType() {
+        return TaskType.DEADLINE;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the due date/time
+     */
+    @Override
+    public LocalDateTime getScheduledAt() {
+        return getBy();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the due date/time in epoch minutes
+     */
+    @Override
+    public long getScheduledEpochMinute() {
+        return byEpochMinute;
+    }
+
+    /**
+     * Returns extra scheduling details appended inside the parentheses of {@link #toString()}.
+     *
+     * @return an empty string for one-off deadlines
+     */
+    protected String getScheduleSuffix() {
+        return "";
     }
 
     /**
-     * Returns the display string for this deadline.
+     * Builds the display string for this deadline.
      *
      * @return a user-facing string prefixed with {@code [D]} and the formatted {@code by} date/time
      */
     @Override
-    public String toString() {
-        return "[D]" + super.toString() + " (by: " + DateTimeUtil.formatForDisplay(by) + ")";
+    protected String formatDisplayString() {
+        return "[D]" + super.formatDisplayString() + " (by: " + DateTimeUtil.formatForDisplay(byEpochMinute)
+                + getScheduleSuffix() + ")";
     }
 }
@@ -0,0 +1,105 @@
+package kraken.task;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reference-counted dictionary that lets tasks with equal descriptions share a single {@link String}.
+ *
+ * <p>Lists loaded from disk otherwise hold one string per task even when thousands of tasks are called
+ * "standup". Entries are released when their last task leaves the list, so the dictionary never holds
+ * descriptions that are no longer used.</p>
+ */
+final class DescriptionDictionary {
+    private static final int STRING_OBJECT_BYTES = 24;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    /**
+     * Estimated cost of one distinct description in the dictionary itself: its {@link HashMap} node (32
+     * bytes), its {@link Entry} (32 bytes) and its share of the map's table at the default load factor
+     * (about 8 bytes).
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 72;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    /** Estimated bytes of the duplicate strings that sharing avoided. */
+    private long duplicateBytesAvoided;
+
+    /**
+     * Returns the canonical instance of {@code description} and records one more reference to it.
+     *
+     * @param description description to intern
+     * @return the shared instance equal to {@code description}
+     */
+    String intern(String description) {
+        Entry entry = entries.get(description);
+        if (entry == null) {
+            entry = new Entry(description);
+            entries.put(description, entry);
+        } else {
+            duplicateBytesAvoided += entry.bytes;
+        }
+        entry.references++;
+        return entry.value;
+    }
+
+    /**
+     * Drops one reference to {@code description}, removing it once no task uses it any more.
+     *
+     * @param description previously interned description
+     */
+    void release(String description) {
+        Entry entry = entries.get(description);
+        assert entry != null : "Releasing a description that was never interned: " + description;
+        if (entry == null) {
+            return;
+        }
+        entry.references--;
+        if (entry.references == 0) {
+            entries.remove(description);
+        } else {
+            duplicateBytesAvoided -= entry.bytes;
+        }
+    }
+
+    /**
+     * Returns the number of distinct descriptions currently in use.
+     *
+     * @return distinct description count
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the estimated number of heap bytes saved by sharing descriptions instead of holding one
+     * string per task: the duplicate strings avoided, less what the dictionary itself costs per distinct
+     * description.
+     *
+     * @return estimated net bytes saved; negative if the list repeats too few descriptions to pay for the
+     *         dictionary
+     */
+    long getBytesSaved() {
+        return duplicateBytesAvoided - (long) entries.size() * ENTRY_OVERHEAD_BYTES;
+    }
+
+    /**
+     * Estimates the retained size of a string (object plus backing array) on a 64-bit JVM with
+     * compressed oops and compact strings.
+     */
+    private static long estimateBytes(String value) {
+        boolean isLatin1 = value.chars().allMatch(c -> c < 256);
+        long arrayBytes = ARRAY_HEADER_BYTES + (long) value.length() * (isLatin1 ? 1 : 2);
+        return STRING_OBJECT_BYTES + ((arrayBytes + 7) / 8) * 8;
+    }
+
+    private static final class Entry {
+        private final String value;
+        private final long bytes;
+        private int references;
+
+        private Entry(String value) {
+            this.value = value;
+            this.bytes = estimateBytes(value);
+        }
+    }
+}
@@ -6,27 +6,32 @@ import kraken.util.DateTimeUtil;
 
 /**
  * Represents an event task that occurs over a start/end date-time range.
+ *
+ * <p>Both ends of the range are held as epoch minutes (see {@link DateTimeUtil}) rather than as
+ * {@link LocalDateTime}s; {@link #getFrom()} and {@link #getTo()} build them on demand.</p>
  */
 public class Event extends Task {
 
-    protected LocalDateTime from;
-    protected LocalDateTime to;
+    protected long fromEpochMinute;
+    protected long toEpochMinute;
 
     /**
      * Creates an event task.
      *
+     * <p>Seconds and nanoseconds of {@code from} and {@code to} are dropped; events have minute
+     * precision.</p>
+     *
      * @param description task description
      * @param from start date/time
      * @param to end date/time
      */
     public Event(String description, LocalDateTime from, LocalDateTime to) {
         super(description);
-        this.from = from;
-        this.to = to;
-        assert this.from != null : "Event start date/time must not be null";
-        assert this.to != null : "Event end date/time must not be null";
-        assert this.from == null || this.to == null || !this.from.isAfter(this.to)
-                : "Event start date/time must not be after end date/time";
+        assert from != null : "Event start date/time must not be null";
+        assert to != null : "Event end date/time must not be null";
+        assert !from.isAfter(to) : "Event start date/time must not be after end date/time";
+        this.fromEpochMinute = DateTimeUtil.toEpochMinute(from);
+        this.toEpochMinute = DateTimeUtil.toEpochMinute(to);
     }
 
     /**
@@ -35,11 +40,8 @@ public class Event extends Task {
      * @return start date/time
      */
     public LocalDateTime getFrom() {
-        assert from != null : "Event start date/time invariant violated";
-        assert to != null : "Event end date/time invariant violated";
-        assert from == null || to == null || !from.isAfter(to)
-                : "Event range invariant violated: start must not be after end";
-        return from;
+        assert fromEpochMinute <= toEpochMinute : "Event range invariant violated: start must not be after end";
+        return DateTimeUtil.fromEpochMinute(fromEpochMinute);
     }
 
     /**
@@ -48,22 +50,77 @@ public class Event extends Task {
      * @return end date/time
      */
     public LocalDateTime getTo() {
-        assert from != null : "Event start date/time invariant violated";
-        assert to != null : "Event end date/time invariant violated";
-        assert from == null || to == null || !from.isAfter(to)
-                : "Event range invariant violated: start must not be after end";
-        return to;
+        assert fromEpochMinute <= toEpochMinute : "Event range invariant violated: start must not be after end";
+        return DateTimeUtil.fromEpochMinute(toEpochMinute);
+    }
+
+    /**
+     * Returns the start date/time of this event as epoch minutes.
+     *
+     * @return start date/time in minutes since 1970-01-01T00:00
+     */
+    public long getFromEpochMinute() {
+        return fromEpochMinute;
+    }
+
+    /**
+     * Returns the end date/time of this event as epoch minutes.
+     *
+     * @return end date/time in minutes since 1970-01-01T00:00
+     */
+    public long getToEpochMinute() {
+        return toEpochMinute;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link TaskType#EVENT}
+     */
+    @Override
+    public TaskType getType() {
+        return TaskType.EVENT;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the start date/time
+     */
+    @Override
+    public LocalDateTime getScheduledAt() {
+        return getFrom();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the start date/time in epoch minutes
+     */
+    @Override
+    public long getScheduledEpochMinute() {
+        return fromEpochMinute;
+    }
+
+    /**
+     * Returns extra scheduling details appended inside the parentheses of {@link #toString()}.
+     *
+     * @return an empty string for one-off events
+     */
+    protected String getScheduleSuffix() {
+        return "";
     }
 
     /**
-     * Returns the display string for this event.
+     * Builds the display string for this event.
      *
      * @return a user-facing string prefixed with {@code [E]} and the formatted time range
      */
     @Override
-    public String toString() {
-        return "[E]" + super.toString()
-                + " (from: " + DateTimeUtil.formatForDisplay(from)
-                + " to: " + DateTimeUtil.formatForDisplay(to) + ")";
+    protected String formatDisplayString() {
+        assert fromEpochMinute <= toEpochMinute : "Event range invariant violated: start must not be after end";
+        return "[E]" + super.formatDisplayString()
+                + " (from: " + DateTimeUtil.formatForDisplay(fromEpochMinute)
+                + " to: " + DateTimeUtil.formatForDisplay(toEpochMinute) + getScheduleSuffix() + ")";
     }
 }
@@ -0,0 +1,32 @@
+package kraken.task;
+
+/**
+ * A pair of pending events whose time ranges overlap.
+ */
+public class EventConflict {
+    private final Event first;
+    private final Event second;
+
+    EventConflict(Event first, Event second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Returns the event that starts first.
+     *
+     * @return earlier-starting event
+     */
+    public Event getFirst() {
+        return first;
+    }
+
+    /**
+     * Returns the event that starts second (while the first is still running).
+     *
+     * @return later-starting event
+     */
+    public Event getSecond() {
+        return second;
+    }
+}
@@ -0,0 +1,80 @@
+package kraken.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Orders events by start time and answers "which events overlap this time range" without a full scan.
+ *
+ * <p>Besides the start ordering, the index keeps a multiset of event durations. An event overlapping
+ * {@code [from, to)} must start before {@code to} and no earlier than {@code from} minus the longest
+ * duration, so only that slice of the start ordering is examined.</p>
+ */
+final class EventIndex {
+    private final DateIndex byStart = new DateIndex();
+    private final NavigableMap<Long, Integer> durationCounts = new TreeMap<>();
+
+    /**
+     * Adds an event to the index.
+     *
+     * @param event event to index
+     */
+    void add(Event event) {
+        byStart.add(event.getFromEpochMinute(), event);
+        durationCounts.merge(durationOf(event), 1, Integer::sum);
+    }
+
+    /**
+     * Removes an event previously added to the index.
+     *
+     * @param event event to remove
+     */
+    void remove(Event event) {
+        byStart.remove(event.getFromEpochMinute(), event);
+        durationCounts.computeIfPresent(durationOf(event), (duration, count) -> (count == 1) ? null : count - 1);
+    }
+
+    /**
+     * Returns the events that overlap {@code [from, to)}, in start order.
+     *
+     * <p>Ranges are half-open, so an event that ends exactly at {@code from} does not overlap, and
+     * zero-length events overlap nothing.</p>
+     *
+     * @param from inclusive start of the range, in epoch minutes
+     * @param to exclusive end of the range, in epoch minutes
+     * @return overlapping events in ascending start order
+     */
+    List<Event> overlapping(long from, long to) {
+        List<Event> result = new ArrayList<>();
+        if (durationCounts.isEmpty()) {
+            return result;
+        }
+        long earliestStart = from - durationCounts.lastKey();
+        for (Task task : byStart.range(earliestStart, to)) {
+            Event event = (Event) task;
+            if (event.getToEpochMinute() > from && durationOf(event) > 0) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all indexed events in start order.
+     *
+     * @return indexed events in ascending start order
+     */
+    List<Event> inStartOrder() {
+        List<Event> result = new ArrayList<>(byStart.size());
+        for (Task task : byStart.range(null, null)) {
+            result.add((Event) task);
+        }
+        return result;
+    }
+
+    private static long durationOf(Event event) {
+        return event.getToEpochMinute() - event.getFromEpochMinute();
+    }
+}
@@ -0,0 +1,36 @@
+package kraken.task;
+
+import java.time.LocalDateTime;
+
+import kraken.util.DateTimeUtil;
+
+/**
+ * A gap between events, as found by {@link TaskList#getFreeSlots(LocalDateTime, LocalDateTime, long)}.
+ */
+public class FreeSlot {
+    private final long startEpochMinute;
+    private final long endEpochMinute;
+
+    FreeSlot(long startEpochMinute, long endEpochMinute) {
+        assert startEpochMinute < endEpochMinute : "Free slot must not be empty";
+        this.startEpochMinute = startEpochMinute;
+        this.endEpochMinute = endEpochMinute;
+    }
+
+    public LocalDateTime getStart() {
+        return DateTimeUtil.fromEpochMinute(startEpochMinute);
+    }
+
+    public LocalDateTime getEnd() {
+        return DateTimeUtil.fromEpochMinute(endEpochMinute);
+    }
+
+    /**
+     * Returns the length of this slot.
+     *
+     * @return slot length in minutes
+     */
+    public long getMinutes() {
+        return endEpochMinute - startEpochMinute;
+    }
+}
@@ -0,0 +1,23 @@
+package kraken.task;
+
+/**
+ * Receives changes to the set of not-done deadlines and events of a {@link TaskList}.
+ *
+ * <p>A task becomes pending when it is added (or unmarked) and stops being pending when it is marked
+ * done or deleted. Callbacks run on the thread that modified the list.</p>
+ */
+public interface PendingTaskListener {
+    /**
+     * Called when a dated task becomes pending.
+     *
+     * @param task the task that is now pending
+     */
+    void pendingTaskAdded(Task task);
+
+    /**
+     * Called when a dated task is no longer pending.
+     *
+     * @param task the task that was marked done or deleted
+     */
+    void pendingTaskRemoved(Task task);
+}
@@ -0,0 +1,63 @@
+package kraken.task;
+
+import java.util.Arrays;
+
+/**
+ * Maps task sequence numbers to their current positions in a {@link TaskList}.
+ *
+ * <p>Every task receives a strictly increasing sequence number when it joins the list, so list order
+ * equals sequence order. A Fenwick tree over "still present" flags then answers "how many live tasks
+ * come before this one" in {@code O(log n)}, which lets indexes report canonical task numbers without
+ * scanning the list.</p>
+ */
+final class PositionIndex {
+    private int[] tree = new int[16];
+    private int size;
+
+    /**
+     * Registers a new live sequence number and returns it.
+     *
+     * @return the 0-based sequence number assigned to the new task
+     */
+    int append() {
+        int node = size + 1;
+        if (node >= tree.length) {
+            tree = Arrays.copyOf(tree, tree.length * 2);
+        }
+        int lowerBound = node - (node & -node);
+        tree[node] = 1 + prefix(node - 1) - prefix(lowerBound);
+        size = node;
+        return node - 1;
+    }
+
+    /**
+     * Marks the given sequence number as no longer present in the list.
+     *
+     * @param sequence sequence number previously returned by {@link #append()}
+     */
+    void remove(int sequence) {
+        assert sequence >= 0 && sequence < size : "Unknown sequence number: " + sequence;
+        for (int node = sequence + 1; node <= size; node += node & -node) {
+            tree[node]--;
+        }
+    }
+
+    /**
+     * Returns the 0-based list position of a live sequence number.
+     *
+     * @param sequence sequence number of a task currently in the list
+     * @return 0-based position of that task
+     */
+    int positionOf(int sequence) {
+        assert sequence >= 0 && sequence < size : "Unknown sequence number: " + sequence;
+        return prefix(sequence + 1) - 1;
+    }
+
+    private int prefix(int node) {
+        int sum = 0;
+        for (int i = node; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,45 @@
+package kraken.task;
+
+import java.util.List;
+
+/**
+ * The outcome of running a {@link TaskQuery}: the matching tasks plus how they were found.
+ */
+public class QueryResult {
+    private final List<Task> matches;
+    private final String plan;
+    private final int rowsScanned;
+
+    QueryResult(List<Task> matches, String plan, int rowsScanned) {
+        this.matches = matches;
+        this.plan = plan;
+        this.rowsScanned = rowsScanned;
+    }
+
+    /**
+     * Returns the matching tasks in list order.
+     *
+     * @return matching tasks
+     */
+    public List<Task> getMatches() {
+        return matches;
+    }
+
+    /**
+     * Returns a description of the access path the planner chose.
+     *
+     * @return human-readable plan
+     */
+    public String getPlan() {
+        return plan;
+    }
+
+    /**
+     * Returns how many candidate tasks had the query's predicates evaluated against them.
+     *
+     * @return number of rows scanned
+     */
+    public int getRowsScanned() {
+        return rowsScanned;
+    }
+}
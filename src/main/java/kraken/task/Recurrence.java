@@ -0,0 +1,85 @@
+package kraken.task;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+import kraken.util.DateTimeUtil;
+
+/**
+ * How often a recurring task repeats.
+ *
+ * <p>Occurrences are always computed from the first occurrence ({@code start + n * period}) rather than
+ * from the previous one, so monthly tasks on the 31st fall back to the last day of shorter months without
+ * drifting.</p>
+ */
+public enum Recurrence {
+    DAILY("day", ChronoUnit.DAYS),
+    WEEKLY("week", ChronoUnit.WEEKS),
+    MONTHLY("month", ChronoUnit.MONTHS),
+    YEARLY("year", ChronoUnit.YEARS);
+
+    private final String unitName;
+    private final ChronoUnit unit;
+
+    Recurrence(String unitName, ChronoUnit unit) {
+        this.unitName = unitName;
+        this.unit = unit;
+    }
+
+    /**
+     * Returns the recurrence for a user-facing unit such as {@code week} or {@code weekly}.
+     *
+     * @param text unit name (case-insensitive)
+     * @return the matching recurrence, or {@code null} if none matches
+     */
+    public static Recurrence fromName(String text) {
+        String normalized = (text == null) ? "" : text.trim().toLowerCase(Locale.ROOT);
+        for (Recurrence recurrence : values()) {
+            String adverb = (recurrence == DAILY) ? "daily" : recurrence.unitName + "ly";
+            if (recurrence.unitName.equals(normalized) || adverb.equals(normalized)) {
+                return recurrence;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the unit name used in commands, display text and storage, e.g. {@code week}.
+     *
+     * @return unit name
+     */
+    public String getUnitName() {
+        return unitName;
+    }
+
+    /**
+     * Returns the first occurrence that starts at or after {@code bound}.
+     *
+     * <p>Runs in constant time: fixed-length periods are computed arithmetically, and calendar periods
+     * start from an estimate that is at most one period short.</p>
+     *
+     * @param startEpochMinute first occurrence, in epoch minutes
+     * @param bound earliest acceptable occurrence, in epoch minutes
+     * @return the matching occurrence, in epoch minutes
+     */
+    public long firstOccurrenceFrom(long startEpochMinute, long bound) {
+        if (bound <= startEpochMinute) {
+            return startEpochMinute;
+        }
+        if (unit == ChronoUnit.DAYS || unit == ChronoUnit.WEEKS) {
+            long period = unit.getDuration().toMinutes();
+            long periods = Math.floorDiv(bound - startEpochMinute + period - 1, period);
+            return startEpochMinute + periods * period;
+        }
+
+        LocalDateTime start = DateTimeUtil.fromEpochMinute(startEpochMinute);
+        long n = Math.max(0, unit.between(start, DateTimeUtil.fromEpochMinute(bound)) - 1);
+        long occurrence = DateTimeUtil.toEpochMinute(start.plus(n, unit));
+        while (occurrence < bound) {
+            n++;
+            occurrence = DateTimeUtil.toEpochMinute(start.plus(n, unit));
+        }
+        return occurrence;
+    }
+}
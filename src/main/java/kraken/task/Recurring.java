@@ -0,0 +1,24 @@
+package kraken.task;
+
+/**
+ * A task that repeats according to a {@link Recurrence}.
+ *
+ * <p>Only the rule is stored; occurrences are computed on demand, so a task that repeats every day for a
+ * year is still a single object and a single line in the save file.</p>
+ */
+public interface Recurring {
+    /**
+     * Returns how often this task repeats.
+     *
+     * @return the recurrence rule
+     */
+    Recurrence getRecurrence();
+
+    /**
+     * Returns the start of the first occurrence at or after {@code bound}.
+     *
+     * @param bound earliest acceptable occurrence, in epoch minutes
+     * @return start of that occurrence, in epoch minutes
+     */
+    long firstOccurrenceFrom(long bound);
+}
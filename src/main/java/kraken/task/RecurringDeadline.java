@@ -0,0 +1,46 @@
+package kraken.task;
+
+import java.time.LocalDateTime;
+
+/**
+ * A deadline that falls due repeatedly, e.g. a weekly report due every Friday.
+ */
+public class RecurringDeadline extends Deadline implements Recurring {
+    private final Recurrence recurrence;
+
+    /**
+     * Creates a recurring deadline.
+     *
+     * @param description task description
+     * @param by first due date/time
+     * @param recurrence how often the deadline repeats
+     */
+    public RecurringDeadline(String description, LocalDateTime by, Recurrence recurrence) {
+        super(description, by);
+        assert recurrence != null : "Recurrence must not be null";
+        this.recurrence = recurrence;
+    }
+
+    @Override
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long firstOccurrenceFrom(long bound) {
+        return recurrence.firstOccurrenceFrom(byEpochMinute, bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the recurrence, e.g. {@code ", every week"}
+     */
+    @Override
+    protected String getScheduleSuffix() {
+        return ", every " + recurrence.getUnitName();
+    }
+}
@@ -0,0 +1,47 @@
+package kraken.task;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event that repeats, e.g. a daily standup; every occurrence has the duration of the first.
+ */
+public class RecurringEvent extends Event implements Recurring {
+    private final Recurrence recurrence;
+
+    /**
+     * Creates a recurring event.
+     *
+     * @param description task description
+     * @param from start date/time of the first occurrence
+     * @param to end date/time of the first occurrence
+     * @param recurrence how often the event repeats
+     */
+    public RecurringEvent(String description, LocalDateTime from, LocalDateTime to, Recurrence recurrence) {
+        super(description, from, to);
+        assert recurrence != null : "Recurrence must not be null";
+        this.recurrence = recurrence;
+    }
+
+    @Override
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long firstOccurrenceFrom(long bound) {
+        return recurrence.firstOccurrenceFrom(fromEpochMinute, bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the recurrence, e.g. {@code ", every week"}
+     */
+    @Override
+    protected String getScheduleSuffix() {
+        return ", every " + recurrence.getUnitName();
+    }
+}
@@ -0,0 +1,51 @@
+package kraken.task;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A small LRU cache of read-only query results, valid for a single version of a {@link TaskList}.
+ *
+ * <p>Results are stored as arrays of 0-based task indices. Because any mutation of the list bumps its
+ * modification count, a cache whose version no longer matches is simply cleared on the next lookup.</p>
+ */
+final class ResultCache {
+    private final Map<String, int[]> entries;
+    private int version;
+
+    /**
+     * Creates a cache holding at most {@code capacity} results.
+     *
+     * @param capacity maximum number of cached results
+     */
+    ResultCache(int capacity) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result for {@code key} at {@code currentVersion}, computing it if necessary.
+     *
+     * @param key normalized query key
+     * @param currentVersion modification count of the list the result is for
+     * @param compute computes the result on a miss
+     * @return matching 0-based task indices
+     */
+    int[] get(String key, int currentVersion, Supplier<int[]> compute) {
+        if (version != currentVersion) {
+            entries.clear();
+            version = currentVersion;
+        }
+        int[] result = entries.get(key);
+        if (result == null) {
+            result = compute.get();
+            entries.put(key, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+package kraken.task;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Counts scheduled tasks per calendar day and per week (weeks start on Monday).
+ *
+ * <p>Counts are adjusted as tasks are indexed and unindexed, so reading them back only touches the
+ * non-empty days or weeks in the requested window.</p>
+ */
+final class ScheduleHistogram {
+    private static final long MINUTES_PER_DAY = 24 * 60;
+    private static final long DAYS_PER_WEEK = 7;
+    /** 1970-01-01 was a Thursday, three days after the Monday that starts its week. */
+    private static final long EPOCH_DAY_OF_WEEK = 3;
+
+    private final NavigableMap<Long, Integer> perDay = new TreeMap<>();
+    private final NavigableMap<Long, Integer> perWeek = new TreeMap<>();
+
+    /**
+     * Counts a task scheduled at the given time.
+     *
+     * @param epochMinute scheduled time, in epoch minutes
+     */
+    void add(long epochMinute) {
+        long day = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+        perDay.merge(day, 1, Integer::sum);
+        perWeek.merge(weekStart(day), 1, Integer::sum);
+    }
+
+    /**
+     * Stops counting a task scheduled at the given time.
+     *
+     * @param epochMinute scheduled time, in epoch minutes
+     */
+    void remove(long epochMinute) {
+        long day = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+        perDay.computeIfPresent(day, (key, count) -> (count == 1) ? null : count - 1);
+        perWeek.computeIfPresent(weekStart(day), (key, count) -> (count == 1) ? null : count - 1);
+    }
+
+    /**
+     * Returns the non-zero daily counts for {@code days} days starting on {@code from}.
+     *
+     * @param from first day
+     * @param days number of days
+     * @return counts keyed by date, in date order
+     */
+    SortedMap<LocalDate, Integer> perDay(LocalDate from, int days) {
+        long first = from.toEpochDay();
+        return toDates(perDay.subMap(first, first + days));
+    }
+
+    /**
+     * Returns the non-zero weekly counts for {@code weeks} weeks starting with the week containing
+     * {@code from}.
+     *
+     * @param from any day of the first week
+     * @param weeks number of weeks
+     * @return counts keyed by the Monday starting each week, in date order
+     */
+    SortedMap<LocalDate, Integer> perWeek(LocalDate from, int weeks) {
+        long first = weekStart(from.toEpochDay());
+        return toDates(perWeek.subMap(first, first + weeks * DAYS_PER_WEEK));
+    }
+
+    private static long weekStart(long epochDay) {
+        return epochDay - Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK, DAYS_PER_WEEK);
+    }
+
+    private static SortedMap<LocalDate, Integer> toDates(SortedMap<Long, Integer> counts) {
+        SortedMap<LocalDate, Integer> result = new TreeMap<>();
+        for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+            result.put(LocalDate.ofEpochDay(entry.getKey()), entry.getValue());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package kraken.task;
+
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Named orderings for which {@link TaskList} can maintain a sorted view.
+ *
+ * <p>Every ordering breaks ties by list order, so each one is a total order over the tasks of a list.</p>
+ */
+public enum SortOrder {
+    BY_DATE("by-date", Comparator.comparingLong(Task::getScheduledEpochMinute)),
+    BY_DESCRIPTION("by-description", Comparator.comparing(Task::getDescription, String.CASE_INSENSITIVE_ORDER));
+
+    private final String name;
+    private final Comparator<Task> comparator;
+
+    SortOrder(String name, Comparator<Task> primary) {
+        this.name = name;
+        this.comparator = primary.thenComparingInt(task -> task.sequence);
+    }
+
+    /**
+     * Returns the ordering with the given user-facing name.
+     *
+     * @param name user-facing name such as {@code by-date}
+     * @return the matching ordering, or {@code null} if none matches
+     */
+    public static SortOrder fromName(String name) {
+        String normalized = (name == null) ? "" : name.trim().toLowerCase(Locale.ROOT);
+        for (SortOrder order : values()) {
+            if (order.name.equals(normalized)) {
+                return order;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the user-facing name of this ordering.
+     *
+     * @return name such as {@code by-date}
+     */
+    public String getName() {
+        return name;
+    }
+
+    Comparator<Task> comparator() {
+        return comparator;
+    }
+}
@@ -0,0 +1,103 @@
+package kraken.task;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Bitmaps over task sequence numbers recording which tasks are present, done, and of each type.
+ *
+ * <p>Combining bitmaps answers "all open deadlines" style questions with a few word-wide operations
+ * instead of touching every task. Per-type and done counts are kept alongside so they can be read in
+ * constant time.</p>
+ */
+final class StatusIndex {
+    private final BitSet live = new BitSet();
+    private final BitSet done = new BitSet();
+    private final Map<TaskType, BitSet> byType = new EnumMap<>(TaskType.class);
+    private final int[] typeCounts = new int[TaskType.values().length];
+    private int doneCount;
+
+    /**
+     * Records a task that has just been added to the list.
+     *
+     * @param task added task
+     */
+    void add(Task task) {
+        live.set(task.sequence);
+        done.set(task.sequence, task.isDone());
+        byType.computeIfAbsent(task.getType(), t -> new BitSet()).set(task.sequence);
+        typeCounts[task.getType().ordinal()]++;
+        if (task.isDone()) {
+            doneCount++;
+        }
+    }
+
+    /**
+     * Forgets a task that has just been removed from the list.
+     *
+     * @param task removed task
+     */
+    void remove(Task task) {
+        live.clear(task.sequence);
+        if (done.get(task.sequence)) {
+            doneCount--;
+        }
+        done.clear(task.sequence);
+        byType.get(task.getType()).clear(task.sequence);
+        typeCounts[task.getType().ordinal()]--;
+    }
+
+    /**
+     * Updates the done bit of a task whose status has just changed.
+     *
+     * @param task task whose status changed
+     */
+    void updateDone(Task task) {
+        if (done.get(task.sequence) != task.isDone()) {
+            doneCount += task.isDone() ? 1 : -1;
+        }
+        done.set(task.sequence, task.isDone());
+    }
+
+    /**
+     * Returns how many present tasks have the given type.
+     *
+     * @param type task type
+     * @return number of tasks of {@code type}
+     */
+    int count(TaskType type) {
+        return typeCounts[type.ordinal()];
+    }
+
+    /**
+     * Returns how many present tasks are done.
+     *
+     * @return number of done tasks
+     */
+    int countDone() {
+        return doneCount;
+    }
+
+    /**
+     * Returns the sequence numbers of present tasks with the given type and status.
+     *
+     * @param type required type, or {@code null} for any type
+     * @param isDone required status, or {@code null} for any status
+     * @return a new bitmap of matching sequence numbers
+     */
+    BitSet select(TaskType type, Boolean isDone) {
+        BitSet result;
+        if (type == null) {
+            result = (BitSet) live.clone();
+        } else {
+            result = (BitSet) byType.getOrDefault(type, new BitSet()).clone();
+        }
+        if (Boolean.TRUE.equals(isDone)) {
+            result.and(done);
+        } else if (Boolean.FALSE.equals(isDone)) {
+            result.andNot(done);
+        }
+        return result;
+    }
+}
@@ -1,14 +1,27 @@
 package kraken.task;
 
+import java.time.LocalDateTime;
+
 /**
  * Represents a basic task with a description and completion state.
  *
  * <p>Subclasses can extend this type to add additional fields (e.g., due dates or time ranges).</p>
  */
 public class Task {
+    /**
+     * Value of {@link #getScheduledEpochMinute()} for tasks without a date; sorts after every real date.
+     */
+    public static final long NOT_SCHEDULED = Long.MAX_VALUE;
+
     protected String description;
     protected boolean isDone;
 
+    /** Position-independent identity assigned by the owning {@link TaskList}. */
+    int sequence = -1;
+
+    /** Memoized {@link #toString()}; cleared whenever the display string would change. */
+    private String displayString;
+
     /**
      * Creates a task with the given description.
      *
@@ -39,6 +52,35 @@ public class Task {
         return isDone;
     }
 
+    /**
+     * Returns the kind of this task.
+     *
+     * <p>Plain tasks have no date, so they count as todos.</p>
+     *
+     * @return the task type
+     */
+    public TaskType getType() {
+        return TaskType.TODO;
+    }
+
+    /**
+     * Returns the date/time this task is scheduled at, used to order dated tasks.
+     *
+     * @return the scheduling date/time, or {@code null} for tasks without a date
+     */
+    public LocalDateTime getScheduledAt() {
+        return null;
+    }
+
+    /**
+     * Returns the date/time this task is scheduled at as epoch minutes, without creating date objects.
+     *
+     * @return minutes since 1970-01-01T00:00, or {@link #NOT_SCHEDULED} for tasks without a date
+     */
+    public long getScheduledEpochMinute() {
+        return NOT_SCHEDULED;
+    }
+
     /**
      * Returns the icon used in string representations of this task.
      *
@@ -53,6 +95,7 @@ public class Task {
      */
     public void markAsDone() {
         this.isDone = true;
+        this.displayString = null;
     }
 
     /**
@@ -60,18 +103,36 @@ public class Task {
      */
     public void markAsNotDone() {
         this.isDone = false;
+        this.displayString = null;
     }
 
     /**
      * Returns a display string for this task.
      *
-     * <p>The base implementation produces a string in the form {@code "[<status>] <description>"}.
-     * Subclasses typically prefix their own type indicator (e.g., {@code [T]}, {@code [D]}).</p>
+     * <p>The string is built by {@link #formatDisplayString()} on first use and reused until the task is
+     * marked or unmarked, so listing an unchanged task costs no formatting.</p>
      *
      * @return a user-facing task string
      */
     @Override
     public String toString() {
+        String result = displayString;
+        if (result == null) {
+            result = formatDisplayString();
+            displayString = result;
+        }
+        return result;
+    }
+
+    /**
+     * Builds the display string returned by {@link #toString()}.
+     *
+     * <p>The base implementation produces a string in the form {@code "[<status>] <description>"}.
+     * Subclasses typically prefix their own type indicator (e.g., {@code [T]}, {@code [D]}).</p>
+     *
+     * @return a user-facing task string
+     */
+    protected String formatDisplayString() {
         assert description != null : "Task description invariant violated";
         return "[" + getStatusIcon() + "] " + description;
     }
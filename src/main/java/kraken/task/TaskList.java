@@ -1,16 +1,61 @@
 package kraken.task;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
 
 import kraken.exception.KrakenException;
+import kraken.util.DateTimeUtil;
 
 /**
  * Encapsulates the task list and operations on it.
+ *
+ * <p>All mutations go through this class so that the secondary indexes it maintains (task positions,
+ * status/type bitmaps, date orderings of deadlines/events, the description word index and any requested
+ * sorted views) stay in sync with the list. Descriptions are interned in a shared dictionary as tasks are
+ * added, so equal descriptions are stored once.</p>
  */
 public class TaskList {
+    /** Number of days, starting today, covered by the per-day counts in {@link #getStatistics()}. */
+    public static final int STATISTICS_DAYS = 7;
+    /** Number of weeks, starting this week, covered by the per-week counts in {@link #getStatistics()}. */
+    public static final int STATISTICS_WEEKS = 4;
+    /** Number of days, starting now, in which recurring events are checked by {@link #getConflicts()}. */
+    public static final int CONFLICT_HORIZON_DAYS = 365;
+
+    private static final int RESULT_CACHE_CAPACITY = 64;
+
     private final List<Task> tasks;
+    private final PositionIndex positions = new PositionIndex();
+    private final StatusIndex statusIndex = new StatusIndex();
+    private final DateIndex scheduledByDate = new DateIndex();
+    private final DateIndex pendingByDate = new DateIndex();
+    private final DateIndex pendingDeadlines = new DateIndex();
+    private final ScheduleHistogram scheduleHistogram = new ScheduleHistogram();
+    private final Set<Task> recurringTasks = new HashSet<>();
+    private final Set<Task> pendingRecurringTasks = new HashSet<>();
+    private final EventIndex pendingEvents = new EventIndex();
+    private final TextIndex textIndex = new TextIndex();
+    private final Map<SortOrder, NavigableSet<Task>> sortedViews = new EnumMap<>(SortOrder.class);
+    private final DescriptionDictionary descriptions = new DescriptionDictionary();
+    private final ResultCache resultCache = new ResultCache(RESULT_CACHE_CAPACITY);
+    private final List<PendingTaskListener> pendingListeners = new ArrayList<>();
+    private int modificationCount;
 
     /**
      * Creates an empty task list.
@@ -27,7 +72,10 @@ public class TaskList {
      * @param tasks initial tasks to populate the list with
      */
     public TaskList(List<Task> tasks) {
-        this.tasks = new ArrayList<>(Objects.requireNonNull(tasks));
+        this.tasks = new ArrayList<>(Objects.requireNonNull(tasks).size());
+        for (Task task : tasks) {
+            add(task);
+        }
     }
 
     /**
@@ -66,6 +114,19 @@ public class TaskList {
         return tasks.get(index);
     }
 
+    /**
+     * Returns the current 0-based index of a task in this list.
+     *
+     * @param task a task currently in this list
+     * @return 0-based index of {@code task}
+     */
+    public int indexOf(Task task) {
+        assert task != null && task.sequence >= 0 : "Task is not part of a task list";
+        int index = positions.positionOf(task.sequence);
+        assert tasks.get(index) == task : "Position index out of sync for: " + task;
+        return index;
+    }
+
     /**
      * Adds a task to the end of the list.
      *
@@ -73,7 +134,27 @@ public class TaskList {
      */
     public void add(Task task) {
         assert task != null : "Task to add must not be null";
+        modificationCount++;
+        task.description = descriptions.intern(task.getDescription());
+        task.sequence = positions.append();
         tasks.add(task);
+        statusIndex.add(task);
+        textIndex.add(task);
+        long scheduledAt = task.getScheduledEpochMinute();
+        if (scheduledAt != Task.NOT_SCHEDULED) {
+            scheduledByDate.add(scheduledAt, task);
+        }
+        if (task instanceof Recurring) {
+            recurringTasks.add(task);
+        } else if (scheduledAt != Task.NOT_SCHEDULED) {
+            scheduleHistogram.add(scheduledAt);
+        }
+        if (!task.isDone()) {
+            indexPending(task);
+        }
+        for (NavigableSet<Task> view : sortedViews.values()) {
+            view.add(task);
+        }
     }
 
     /**
@@ -85,7 +166,26 @@ public class TaskList {
     public Task remove(int index) {
         assert index >= 0 && index < tasks.size()
                 : "Task index out of bounds for remove: " + index;
-        return tasks.remove(index);
+        Task removed = tasks.remove(index);
+        modificationCount++;
+        positions.remove(removed.sequence);
+        descriptions.release(removed.getDescription());
+        statusIndex.remove(removed);
+        textIndex.remove(removed);
+        long scheduledAt = removed.getScheduledEpochMinute();
+        if (scheduledAt != Task.NOT_SCHEDULED) {
+            scheduledByDate.remove(scheduledAt, removed);
+        }
+        if (!recurringTasks.remove(removed) && scheduledAt != Task.NOT_SCHEDULED) {
+            scheduleHistogram.remove(scheduledAt);
+        }
+        if (!removed.isDone()) {
+            unindexPending(removed);
+        }
+        for (NavigableSet<Task> view : sortedViews.values()) {
+            view.remove(removed);
+        }
+        return removed;
     }
 
     /**
@@ -99,17 +199,538 @@ public class TaskList {
         getTaskOrThrow(index);
         assert index >= 0 && index < tasks.size()
                 : "Validated task index out of bounds for remove: " + index;
-        return tasks.remove(index);
+        return remove(index);
+    }
+
+    /**
+     * Marks the task at the given 0-based index as done, throwing a user-friendly exception if invalid.
+     *
+     * @param index 0-based index
+     * @return the marked task
+     * @throws KrakenException if {@code index} is out of bounds
+     */
+    public Task markTaskOrThrow(int index) throws KrakenException {
+        Task task = getTaskOrThrow(index);
+        if (!task.isDone()) {
+            modificationCount++;
+            unindexPending(task);
+            task.markAsDone();
+            statusIndex.updateDone(task);
+        }
+        return task;
+    }
+
+    /**
+     * Marks the task at the given 0-based index as not done, throwing a user-friendly exception if invalid.
+     *
+     * @param index 0-based index
+     * @return the unmarked task
+     * @throws KrakenException if {@code index} is out of bounds
+     */
+    public Task unmarkTaskOrThrow(int index) throws KrakenException {
+        Task task = getTaskOrThrow(index);
+        if (task.isDone()) {
+            modificationCount++;
+            task.markAsNotDone();
+            statusIndex.updateDone(task);
+            indexPending(task);
+        }
+        return task;
+    }
+
+    /**
+     * Returns aggregate figures about this list as of the current time.
+     *
+     * @return a snapshot of the current statistics
+     * @see #getStatistics(LocalDateTime)
+     */
+    public TaskStatistics getStatistics() {
+        return getStatistics(LocalDateTime.now());
+    }
+
+    /**
+     * Returns aggregate figures about this list as of the given time.
+     *
+     * <p>Counts are maintained as the list changes, so this does not scan the tasks: type and status
+     * counts are read directly, overdue deadlines are counted from the date index, and per-day and
+     * per-week counts touch only the non-empty days and weeks in the reported window.</p>
+     *
+     * @param now time against which overdue deadlines and the reported window are measured
+     * @return a snapshot of the statistics
+     */
+    public TaskStatistics getStatistics(LocalDateTime now) {
+        assert now != null : "Statistics time must not be null";
+        Map<TaskType, Integer> countsByType = new EnumMap<>(TaskType.class);
+        for (TaskType type : TaskType.values()) {
+            countsByType.put(type, statusIndex.count(type));
+        }
+        int overdue = pendingDeadlines.countRange(null, DateTimeUtil.toEpochMinute(now), Integer.MAX_VALUE);
+        LocalDate today = now.toLocalDate();
+        return new TaskStatistics(tasks.size(), countsByType, statusIndex.countDone(), overdue,
+                recurringTasks.size(), scheduleHistogram.perDay(today, STATISTICS_DAYS),
+                scheduleHistogram.perWeek(today, STATISTICS_WEEKS), descriptions.size(),
+                descriptions.getBytesSaved());
+    }
+
+    /**
+     * Returns the number of modifications (adds, removals and status changes) made to this list.
+     *
+     * @return a counter that changes whenever the list changes
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Registers a listener for changes to the pending deadlines and events.
+     *
+     * <p>The listener is first told about every task that is already pending, so it can build its own
+     * view of them without scanning the list again later.</p>
+     *
+     * @param listener listener to register
+     */
+    public void addPendingTaskListener(PendingTaskListener listener) {
+        assert listener != null : "Pending task listener must not be null";
+        pendingListeners.add(listener);
+        for (Task task : pendingByDate.range(null, null)) {
+            listener.pendingTaskAdded(task);
+        }
+        for (Task task : pendingRecurringTasks) {
+            listener.pendingTaskAdded(task);
+        }
+    }
+
+    /**
+     * Returns a cached read-only query result, recomputing it only if the list changed since it was cached.
+     *
+     * <p>Up to {@value #RESULT_CACHE_CAPACITY} results are kept in least-recently-used order; any
+     * modification of the list invalidates all of them.</p>
+     *
+     * @param key normalized description of the query (equal keys must denote equal queries)
+     * @param compute computes the matching 0-based task indices on a cache miss
+     * @return matching 0-based task indices; callers must not modify the array
+     */
+    public int[] getCachedResult(String key, Supplier<int[]> compute) {
+        return resultCache.get(key, modificationCount, compute);
+    }
+
+    /**
+     * Returns the nearest not-done dated tasks scheduled strictly after the given date/time.
+     *
+     * <p>Deadlines are ordered by their due date/time and events by their start date/time; recurring
+     * tasks are ordered by their next occurrence. This runs in {@code O(log n + limit)} using the
+     * maintained date index, plus {@code O(r log r)} for the {@code r} pending recurring tasks.</p>
+     *
+     * @param after exclusive lower bound (typically "now")
+     * @param limit maximum number of tasks to return
+     * @return up to {@code limit} tasks in ascending date order
+     */
+    public List<Task> getUpcoming(LocalDateTime after, int limit) {
+        assert after != null : "Upcoming lower bound must not be null";
+        assert limit >= 0 : "Upcoming limit must not be negative";
+        long bound = DateTimeUtil.toEpochMinute(after);
+        List<Task> upcoming = pendingByDate.firstAfter(bound, limit);
+        if (pendingRecurringTasks.isEmpty()) {
+            return upcoming;
+        }
+
+        upcoming.addAll(pendingRecurringTasks);
+        upcoming.sort(Comparator.comparingLong((Task task) -> nextOccurrenceAfter(task, bound))
+                .thenComparingInt(task -> task.sequence));
+        return new ArrayList<>(upcoming.subList(0, Math.min(limit, upcoming.size())));
+    }
+
+    /**
+     * Returns the pending events that overlap the half-open range {@code [from, to)}.
+     *
+     * <p>One-off events are found through an interval lookup on the start-ordered event index; recurring
+     * events are checked at their occurrence nearest the range.</p>
+     *
+     * @param from start of the range
+     * @param to end of the range
+     * @return overlapping events in list order
+     */
+    public List<Task> getOverlappingEvents(LocalDateTime from, LocalDateTime to) {
+        assert from != null && to != null : "Overlap range must not be null";
+        long fromMinute = DateTimeUtil.toEpochMinute(from);
+        long toMinute = DateTimeUtil.toEpochMinute(to);
+        List<Task> overlapping = new ArrayList<>(pendingEvents.overlapping(fromMinute, toMinute));
+        for (Task task : pendingRecurringTasks) {
+            if (!(task instanceof Event)) {
+                continue;
+            }
+            Event event = (Event) task;
+            long duration = event.getToEpochMinute() - event.getFromEpochMinute();
+            long start = ((Recurring) task).firstOccurrenceFrom(fromMinute - duration + 1);
+            if (duration > 0 && start < toMinute) {
+                overlapping.add(task);
+            }
+        }
+        return inListOrder(overlapping);
+    }
+
+    /**
+     * Returns every pair of pending events whose time ranges overlap, as of the current time.
+     *
+     * @return conflicting pairs, ordered by the start of the later event
+     * @see #getConflicts(LocalDateTime)
+     */
+    public List<EventConflict> getConflicts() {
+        return getConflicts(LocalDateTime.now());
+    }
+
+    /**
+     * Returns every pair of pending events whose time ranges overlap.
+     *
+     * <p>One-off events are checked whenever they take place. Recurring events repeat forever, so only their
+     * occurrences from {@code now} through the next {@value #CONFLICT_HORIZON_DAYS} days are checked, against
+     * one-off events and against each other. A pair is reported once, at its first overlap.</p>
+     *
+     * <p>Occurrences are swept in start order while those still running are kept ordered by end time, so
+     * this takes {@code O(m log m + k)} for {@code m} occurrences and {@code k} conflicts instead of comparing
+     * every pair.</p>
+     *
+     * @param now start of the period in which recurring events are checked
+     * @return conflicting pairs, ordered by the start of the later event
+     */
+    public List<EventConflict> getConflicts(LocalDateTime now) {
+        assert now != null : "Conflict check time must not be null";
+        long horizonStart = DateTimeUtil.toEpochMinute(now);
+        long horizonEnd = DateTimeUtil.toEpochMinute(now.plusDays(CONFLICT_HORIZON_DAYS));
+
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (Event event : pendingEvents.inStartOrder()) {
+            occurrences.add(new Occurrence(event, event.getFromEpochMinute(), event.getToEpochMinute()));
+        }
+        for (Task task : pendingRecurringTasks) {
+            if (!(task instanceof Event)) {
+                continue;
+            }
+            Event event = (Event) task;
+            long duration = event.getToEpochMinute() - event.getFromEpochMinute();
+            Recurring recurring = (Recurring) task;
+            for (long start = recurring.firstOccurrenceFrom(horizonStart - duration + 1); start < horizonEnd;
+                    start = recurring.firstOccurrenceFrom(start + 1)) {
+                occurrences.add(new Occurrence(event, start, start + duration));
+            }
+        }
+        occurrences.sort(Comparator.comparingLong(occurrence -> occurrence.start));
+
+        List<EventConflict> conflicts = new ArrayList<>();
+        Set<Long> reportedPairs = new HashSet<>();
+        NavigableSet<Occurrence> running = new TreeSet<>(Comparator.<Occurrence>comparingLong(o -> o.end)
+                .thenComparingInt(o -> o.event.sequence)
+                .thenComparingLong(o -> o.start));
+        for (Occurrence occurrence : occurrences) {
+            while (!running.isEmpty() && running.first().end <= occurrence.start) {
+                running.pollFirst();
+            }
+            if (occurrence.end == occurrence.start) {
+                continue;
+            }
+            for (Occurrence other : running) {
+                Event first = other.event;
+                Event second = occurrence.event;
+                if (first != second && reportedPairs.add(pairKey(first.sequence, second.sequence))) {
+                    conflicts.add(new EventConflict(first, second));
+                }
+            }
+            running.add(occurrence);
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns the gaps between pending events within {@code [from, to)} that last at least
+     * {@code minMinutes}.
+     *
+     * <p>Only events overlapping the window are looked up, through the start-ordered event index, and
+     * recurring events contribute just their occurrences inside the window. The busy intervals are then
+     * sorted and merged in one pass.</p>
+     *
+     * @param from start of the window
+     * @param to end of the window
+     * @param minMinutes shortest gap worth reporting, in minutes
+     * @return free slots in time order
+     */
+    public List<FreeSlot> getFreeSlots(LocalDateTime from, LocalDateTime to, long minMinutes) {
+        assert from != null && to != null : "Free-slot window must not be null";
+        assert minMinutes > 0 : "Minimum free-slot length must be positive";
+        long windowStart = DateTimeUtil.toEpochMinute(from);
+        long windowEnd = DateTimeUtil.toEpochMinute(to);
+
+        List<long[]> busy = new ArrayList<>();
+        for (Event event : pendingEvents.overlapping(windowStart, windowEnd)) {
+            busy.add(new long[] {event.getFromEpochMinute(), event.getToEpochMinute()});
+        }
+        for (Task task : pendingRecurringTasks) {
+            if (!(task instanceof Event)) {
+                continue;
+            }
+            Event event = (Event) task;
+            long duration = event.getToEpochMinute() - event.getFromEpochMinute();
+            if (duration <= 0) {
+                continue;
+            }
+            Recurring recurring = (Recurring) task;
+            for (long start = recurring.firstOccurrenceFrom(windowStart - duration + 1); start < windowEnd;
+                    start = recurring.firstOccurrenceFrom(start + 1)) {
+                busy.add(new long[] {start, start + duration});
+            }
+        }
+        busy.sort(Comparator.comparingLong(interval -> interval[0]));
+
+        List<FreeSlot> slots = new ArrayList<>();
+        long freeFrom = windowStart;
+        for (long[] interval : busy) {
+            if (interval[0] - freeFrom >= minMinutes) {
+                slots.add(new FreeSlot(freeFrom, interval[0]));
+            }
+            freeFrom = Math.max(freeFrom, interval[1]);
+        }
+        if (windowEnd - freeFrom >= minMinutes) {
+            slots.add(new FreeSlot(freeFrom, windowEnd));
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the indices of the tasks whose descriptions contain {@code keyword}, ignoring case.
+     *
+     * <p>Every word of the keyword lies within some word of a matching description, so only the tasks
+     * indexed under words containing the keyword's most selective word are checked. A keyword without
+     * letters or digits cannot use the word index and is checked against every task.</p>
+     *
+     * @param keyword text to search for
+     * @return matching 0-based task indices in ascending order
+     */
+    public int[] findContaining(String keyword) {
+        assert keyword != null : "Search keyword must not be null";
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        Collection<Task> candidates = tasks;
+        for (String fragment : TextIndex.tokenize(needle)) {
+            List<Set<Task>> postings = textIndex.postingsContaining(fragment);
+            int count = 0;
+            for (Set<Task> posting : postings) {
+                count += posting.size();
+            }
+            if (count < candidates.size()) {
+                candidates = union(postings);
+            }
+        }
+
+        List<Task> matches = new ArrayList<>();
+        for (Task task : candidates) {
+            String description = task.getDescription();
+            if (description != null && description.toLowerCase(Locale.ROOT).contains(needle)) {
+                matches.add(task);
+            }
+        }
+        int[] indices = new int[matches.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = indexOf(matches.get(i));
+        }
+        Arrays.sort(indices);
+        return indices;
+    }
+
+    /**
+     * Returns the tasks whose descriptions contain a word approximately equal to {@code word}.
+     *
+     * <p>Candidate words are looked up in a BK-tree over the description vocabulary, so the cost depends
+     * on the vocabulary size rather than on the number of tasks.</p>
+     *
+     * @param word word to search for (case-insensitive, may be misspelt)
+     * @return matching tasks in list order
+     */
+    public List<Task> findApproximate(String word) {
+        assert word != null && !word.isBlank() : "Fuzzy search word must not be blank";
+        return inListOrder(textIndex.findApproximate(word.trim()));
+    }
+
+    /**
+     * Runs a query, starting from the most selective index that can serve one of its predicates.
+     *
+     * <p>The planner considers the status/type bitmaps, the date ordering of dated tasks and the word
+     * index, estimates how many candidates each would produce, and falls back to a full scan if none
+     * beats it. All predicates are then evaluated on the chosen candidates only.</p>
+     *
+     * @param query query to run
+     * @return the matches in list order, together with the chosen plan and the number of rows scanned
+     */
+    public QueryResult query(TaskQuery query) {
+        assert query != null : "Query must not be null";
+        String plan = "full scan";
+        int estimate = tasks.size();
+        Supplier<Collection<Task>> candidates = () -> tasks;
+
+        if (query.getType() != null || query.getIsDone() != null) {
+            BitSet selected = statusIndex.select(query.getType(), query.getIsDone());
+            int count = selected.cardinality();
+            if (count < estimate) {
+                plan = "status bitmap";
+                estimate = count;
+                candidates = () -> fromSequences(selected);
+            }
+        }
+
+        if (query.hasDateRange()) {
+            Long from = query.getScheduledFrom();
+            Long to = query.getScheduledTo();
+            int count = scheduledByDate.countRange(from, to, estimate) + recurringTasks.size();
+            if (count < estimate) {
+                plan = "date index";
+                estimate = count;
+                candidates = () -> {
+                    Set<Task> inRange = new HashSet<>(scheduledByDate.range(from, to));
+                    inRange.addAll(recurringTasks);
+                    return inRange;
+                };
+            }
+        }
+
+        for (String text : query.getTexts()) {
+            for (String fragment : TextIndex.tokenize(text)) {
+                List<Set<Task>> postings = textIndex.postingsContaining(fragment);
+                int count = 0;
+                for (Set<Task> posting : postings) {
+                    count += posting.size();
+                }
+                if (count < estimate) {
+                    plan = "text index on '" + fragment + "' (" + postings.size() + " word(s))";
+                    estimate = count;
+                    candidates = () -> union(postings);
+                }
+            }
+        }
+
+        Collection<Task> scanned = candidates.get();
+        List<Task> matches = new ArrayList<>();
+        for (Task task : scanned) {
+            if (query.matches(task)) {
+                matches.add(task);
+            }
+        }
+        return new QueryResult(inListOrder(matches), plan + ", est. " + estimate + " row(s)", scanned.size());
+    }
+
+    /**
+     * Returns the tasks in the given order.
+     *
+     * <p>The first request for an ordering builds its view in {@code O(n log n)}; from then on the view
+     * is kept up to date on every add/remove, so later sorted listings only cost the output.</p>
+     *
+     * @param order ordering to view the tasks in
+     * @return a read-only, live sorted view of the tasks
+     */
+    public Iterable<Task> getSortedView(SortOrder order) {
+        assert order != null : "Sort order must not be null";
+        NavigableSet<Task> view = sortedViews.computeIfAbsent(order, o -> {
+            NavigableSet<Task> created = new TreeSet<>(o.comparator());
+            created.addAll(tasks);
+            return created;
+        });
+        return Collections.unmodifiableNavigableSet(view);
     }
 
     /**
-     * Returns the underlying list for persistence.
+     * Returns a read-only view of the tasks for persistence.
      *
-     * <p>This returns the internal mutable list; modifications will affect this {@code TaskList}.</p>
+     * <p>Mutations must go through this {@code TaskList} so that its indexes stay consistent.</p>
      *
-     * @return the underlying task list
+     * @return an unmodifiable view of the underlying task list
      */
     public List<Task> asList() {
-        return tasks;
+        return Collections.unmodifiableList(tasks);
+    }
+
+    private List<Task> fromSequences(BitSet sequences) {
+        List<Task> result = new ArrayList<>(sequences.cardinality());
+        for (int seq = sequences.nextSetBit(0); seq >= 0; seq = sequences.nextSetBit(seq + 1)) {
+            result.add(tasks.get(positions.positionOf(seq)));
+        }
+        return result;
+    }
+
+    private static long pairKey(int sequence, int otherSequence) {
+        return ((long) Math.min(sequence, otherSequence) << 32) | Math.max(sequence, otherSequence);
+    }
+
+    private static Set<Task> union(List<Set<Task>> postings) {
+        Set<Task> result = new HashSet<>();
+        for (Set<Task> posting : postings) {
+            result.addAll(posting);
+        }
+        return result;
+    }
+
+    private List<Task> inListOrder(Collection<Task> matches) {
+        List<Task> ordered = new ArrayList<>(matches);
+        ordered.sort((a, b) -> Integer.compare(a.sequence, b.sequence));
+        return ordered;
+    }
+
+    private static long nextOccurrenceAfter(Task task, long bound) {
+        if (task instanceof Recurring) {
+            return ((Recurring) task).firstOccurrenceFrom(bound + 1);
+        }
+        return task.getScheduledEpochMinute();
+    }
+
+    /**
+     * Adds a not-done task to the upcoming index; recurring tasks are kept apart because their next
+     * occurrence moves with time.
+     */
+    private void indexPending(Task task) {
+        long scheduledAt = task.getScheduledEpochMinute();
+        if (task instanceof Recurring) {
+            pendingRecurringTasks.add(task);
+        } else if (scheduledAt != Task.NOT_SCHEDULED) {
+            pendingByDate.add(scheduledAt, task);
+            if (task instanceof Event) {
+                pendingEvents.add((Event) task);
+            } else if (task instanceof Deadline) {
+                pendingDeadlines.add(scheduledAt, task);
+            }
+        } else {
+            return;
+        }
+        for (PendingTaskListener listener : pendingListeners) {
+            listener.pendingTaskAdded(task);
+        }
+    }
+
+    private void unindexPending(Task task) {
+        long scheduledAt = task.getScheduledEpochMinute();
+        if (task instanceof Recurring) {
+            pendingRecurringTasks.remove(task);
+        } else if (scheduledAt != Task.NOT_SCHEDULED) {
+            pendingByDate.remove(scheduledAt, task);
+            if (task instanceof Event) {
+                pendingEvents.remove((Event) task);
+            } else if (task instanceof Deadline) {
+                pendingDeadlines.remove(scheduledAt, task);
+            }
+        } else {
+            return;
+        }
+        for (PendingTaskListener listener : pendingListeners) {
+            listener.pendingTaskRemoved(task);
+        }
+    }
+
+    /**
+     * One occurrence of an event: the event itself, or a single repetition of a recurring one.
+     */
+    private static final class Occurrence {
+        private final Event event;
+        private final long start;
+        private final long end;
+
+        Occurrence(Event event, long start, long end) {
+            this.event = event;
+            this.start = start;
+            this.end = end;
+        }
     }
 }
@@ -0,0 +1,145 @@
+package kraken.task;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import kraken.util.DateTimeUtil;
+
+/**
+ * A conjunction of task predicates compiled from a {@code query} command.
+ *
+ * <p>Every predicate is optional; a task matches when it satisfies all predicates that are set. Date
+ * predicates compare against {@link Task#getScheduledEpochMinute()}, so they never match undated todos;
+ * recurring tasks match if any of their occurrences falls in the range.</p>
+ */
+public class TaskQuery {
+    private final TaskType type;
+    private final Boolean isDone;
+    private final LocalDate before;
+    private final LocalDate after;
+    private final List<String> texts;
+
+    /**
+     * Creates a query from its predicates.
+     *
+     * @param type required task type, or {@code null} for any type
+     * @param isDone required completion state, or {@code null} for any state
+     * @param before tasks must be scheduled before the start of this date, or {@code null}
+     * @param after tasks must be scheduled after the end of this date, or {@code null}
+     * @param texts case-insensitive substrings the description must all contain (may be empty)
+     */
+    public TaskQuery(TaskType type, Boolean isDone, LocalDate before, LocalDate after, List<String> texts) {
+        this.type = type;
+        this.isDone = isDone;
+        this.before = before;
+        this.after = after;
+        this.texts = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            this.texts.add(text.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    TaskType getType() {
+        return type;
+    }
+
+    Boolean getIsDone() {
+        return isDone;
+    }
+
+    List<String> getTexts() {
+        return texts;
+    }
+
+    /**
+     * Returns the inclusive lower bound on the scheduled epoch minute, or {@code null} if unbounded.
+     */
+    Long getScheduledFrom() {
+        return (after == null) ? null : DateTimeUtil.startOfDayEpochMinute(after.plusDays(1));
+    }
+
+    /**
+     * Returns the exclusive upper bound on the scheduled epoch minute, or {@code null} if unbounded.
+     */
+    Long getScheduledTo() {
+        return (before == null) ? null : DateTimeUtil.startOfDayEpochMinute(before);
+    }
+
+    /**
+     * Returns whether the query has a date predicate.
+     *
+     * @return {@code true} if {@code before} or {@code after} is set
+     */
+    boolean hasDateRange() {
+        return before != null || after != null;
+    }
+
+    /**
+     * Returns whether the given task satisfies every predicate of this query.
+     *
+     * @param task task to test
+     * @return {@code true} if the task matches
+     */
+    public boolean matches(Task task) {
+        if (type != null && task.getType() != type) {
+            return false;
+        }
+        if (isDone != null && task.isDone() != isDone) {
+            return false;
+        }
+        if (hasDateRange() && !isScheduledInRange(task)) {
+            return false;
+        }
+        if (!texts.isEmpty()) {
+            String description = task.getDescription().toLowerCase(Locale.ROOT);
+            for (String text : texts) {
+                if (!description.contains(text)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the predicates in normalized {@code key:value} form.
+     *
+     * @return a canonical, space-separated rendering of this query
+     */
+    @Override
+    public String toString() {
+        List<String> parts = new ArrayList<>();
+        if (type != null) {
+            parts.add("type:" + type.getName());
+        }
+        if (isDone != null) {
+            parts.add("done:" + (isDone ? 1 : 0));
+        }
+        if (before != null) {
+            parts.add("before:" + before);
+        }
+        if (after != null) {
+            parts.add("after:" + after);
+        }
+        for (String text : texts) {
+            parts.add("text:" + text);
+        }
+        return String.join(" ", parts);
+    }
+
+    private boolean isScheduledInRange(Task task) {
+        long scheduledAt = task.getScheduledEpochMinute();
+        if (scheduledAt == Task.NOT_SCHEDULED) {
+            return false;
+        }
+        Long from = getScheduledFrom();
+        Long to = getScheduledTo();
+        if (task instanceof Recurring) {
+            long occurrence = ((Recurring) task).firstOccurrenceFrom((from == null) ? scheduledAt : from);
+            return to == null || occurrence < to;
+        }
+        return (from == null || scheduledAt >= from) && (to == null || scheduledAt < to);
+    }
+}
@@ -0,0 +1,129 @@
+package kraken.task;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * A snapshot of aggregate figures about a {@link TaskList}.
+ */
+public class TaskStatistics {
+    private final int taskCount;
+    private final Map<TaskType, Integer> countsByType;
+    private final int doneCount;
+    private final int overdueDeadlines;
+    private final int recurringCount;
+    private final SortedMap<LocalDate, Integer> tasksPerDay;
+    private final SortedMap<LocalDate, Integer> tasksPerWeek;
+    private final int distinctDescriptions;
+    private final long descriptionBytesSaved;
+
+    TaskStatistics(int taskCount, Map<TaskType, Integer> countsByType, int doneCount, int overdueDeadlines,
+            int recurringCount, SortedMap<LocalDate, Integer> tasksPerDay, SortedMap<LocalDate, Integer> tasksPerWeek,
+            int distinctDescriptions, long descriptionBytesSaved) {
+        this.taskCount = taskCount;
+        this.countsByType = Collections.unmodifiableMap(countsByType);
+        this.doneCount = doneCount;
+        this.overdueDeadlines = overdueDeadlines;
+        this.recurringCount = recurringCount;
+        this.tasksPerDay = Collections.unmodifiableSortedMap(tasksPerDay);
+        this.tasksPerWeek = Collections.unmodifiableSortedMap(tasksPerWeek);
+        this.distinctDescriptions = distinctDescriptions;
+        this.descriptionBytesSaved = descriptionBytesSaved;
+    }
+
+    /**
+     * Returns the number of tasks in the list.
+     *
+     * @return task count
+     */
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Returns the number of tasks of the given type.
+     *
+     * @param type task type
+     * @return number of tasks of {@code type}
+     */
+    public int getCount(TaskType type) {
+        return countsByType.getOrDefault(type, 0);
+    }
+
+    /**
+     * Returns the number of tasks marked as done.
+     *
+     * @return done task count
+     */
+    public int getDoneCount() {
+        return doneCount;
+    }
+
+    /**
+     * Returns the number of tasks not marked as done.
+     *
+     * @return open task count
+     */
+    public int getOpenCount() {
+        return taskCount - doneCount;
+    }
+
+    /**
+     * Returns the number of one-off deadlines that are not done and already past due.
+     *
+     * @return overdue deadline count
+     */
+    public int getOverdueDeadlines() {
+        return overdueDeadlines;
+    }
+
+    /**
+     * Returns the number of recurring deadlines and events.
+     *
+     * @return recurring task count
+     */
+    public int getRecurringCount() {
+        return recurringCount;
+    }
+
+    /**
+     * Returns how many one-off deadlines and events fall on each of the next
+     * {@value TaskList#STATISTICS_DAYS} days, omitting days with none.
+     *
+     * @return counts keyed by date, in date order
+     */
+    public SortedMap<LocalDate, Integer> getTasksPerDay() {
+        return tasksPerDay;
+    }
+
+    /**
+     * Returns how many one-off deadlines and events fall in each of the next
+     * {@value TaskList#STATISTICS_WEEKS} weeks, omitting weeks with none.
+     *
+     * @return counts keyed by the Monday starting each week, in date order
+     */
+    public SortedMap<LocalDate, Integer> getTasksPerWeek() {
+        return tasksPerWeek;
+    }
+
+    /**
+     * Returns the number of distinct task descriptions.
+     *
+     * @return distinct description count
+     */
+    public int getDistinctDescriptions() {
+        return distinctDescriptions;
+    }
+
+    /**
+     * Returns the estimated heap bytes saved by sharing equal descriptions between tasks, net of the
+     * dictionary's own overhead.
+     *
+     * @return estimated bytes saved; negative if sharing costs more than it saves
+     */
+    public long getDescriptionBytesSaved() {
+        return descriptionBytesSaved;
+    }
+}
@@ -0,0 +1,54 @@
+package kraken.task;
+
+import java.util.Locale;
+
+/**
+ * The kinds of tasks Kraken knows about, with their one-letter icons.
+ */
+public enum TaskType {
+    TODO("T", "todo"),
+    DEADLINE("D", "deadline"),
+    EVENT("E", "event");
+
+    private final String icon;
+    private final String name;
+
+    TaskType(String icon, String name) {
+        this.icon = icon;
+        this.name = name;
+    }
+
+    /**
+     * Returns the type with the given user-facing name or icon (case-insensitive).
+     *
+     * @param text name such as {@code deadline} or icon such as {@code D}
+     * @return the matching type, or {@code null} if none matches
+     */
+    public static TaskType fromName(String text) {
+        String normalized = (text == null) ? "" : text.trim().toLowerCase(Locale.ROOT);
+        for (TaskType type : values()) {
+            if (type.name.equals(normalized) || type.icon.toLowerCase(Locale.ROOT).equals(normalized)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the one-letter icon shown in task listings, e.g. {@code D}.
+     *
+     * @return type icon
+     */
+    public String getIcon() {
+        return icon;
+    }
+
+    /**
+     * Returns the user-facing name of this type, e.g. {@code deadline}.
+     *
+     * @return type name
+     */
+    public String getName() {
+        return name;
+    }
+}
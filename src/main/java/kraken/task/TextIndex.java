@@ -0,0 +1,118 @@
+package kraken.task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from description words to tasks, with a {@link BkTree} over the word dictionary for
+ * approximate lookups.
+ *
+ * <p>Words are lower-cased runs of letters/digits. Words whose last task is removed keep their BK-tree
+ * node (a tree cannot cheaply delete inner nodes) but lose their posting list, so they no longer match;
+ * they are revived if a later task uses the word again.</p>
+ */
+final class TextIndex {
+    private final Map<String, Set<Task>> postings = new HashMap<>();
+    private final BkTree dictionary = new BkTree();
+
+    /**
+     * Indexes every word of the task's description.
+     *
+     * @param task task to index
+     */
+    void add(Task task) {
+        for (String term : tokenize(task.getDescription())) {
+            postings.computeIfAbsent(term, t -> {
+                dictionary.add(t);
+                return new HashSet<>(2);
+            }).add(task);
+        }
+    }
+
+    /**
+     * Removes the task from the posting lists of every word of its description.
+     *
+     * @param task task to unindex
+     */
+    void remove(Task task) {
+        for (String term : tokenize(task.getDescription())) {
+            Set<Task> tasks = postings.get(term);
+            if (tasks != null && tasks.remove(task) && tasks.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Returns the tasks containing a word within the allowed edit distance of {@code word}.
+     *
+     * <p>The allowed distance grows with the word length: one edit for words of up to four characters,
+     * two edits for longer words.</p>
+     *
+     * @param word word to search for (case-insensitive)
+     * @return matching tasks, in no particular order
+     */
+    Set<Task> findApproximate(String word) {
+        String query = word.toLowerCase(Locale.ROOT);
+        int maxDistance = (query.length() <= 4) ? 1 : 2;
+
+        List<String> terms = new ArrayList<>();
+        dictionary.search(query, maxDistance, terms);
+
+        Set<Task> result = new HashSet<>();
+        for (String term : terms) {
+            Set<Task> tasks = postings.get(term);
+            if (tasks != null) {
+                result.addAll(tasks);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the posting lists of every indexed word that contains {@code fragment}.
+     *
+     * <p>Any description containing {@code fragment} as a substring has a word containing it, so the
+     * union of these lists is a superset of the substring matches. Only the vocabulary is scanned, not
+     * the tasks.</p>
+     *
+     * @param fragment lower-cased run of word characters
+     * @return posting lists of the words containing {@code fragment}
+     */
+    List<Set<Task>> postingsContaining(String fragment) {
+        List<Set<Task>> result = new ArrayList<>();
+        for (Map.Entry<String, Set<Task>> entry : postings.entrySet()) {
+            if (entry.getKey().contains(fragment)) {
+                result.add(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Splits text into distinct lower-cased words.
+     *
+     * @param text text to tokenize
+     * @return distinct words in order of first appearance
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+}
@@ -14,12 +14,12 @@ public class Todo extends Task {
     }
 
     /**
-     * Returns the display string for this todo.
+     * Builds the display string for this todo.
      *
      * @return a user-facing string prefixed with {@code [T]}
      */
     @Override
-    public String toString() {
-        return "[T]" + super.toString();
+    protected String formatDisplayString() {
+        return "[T]" + super.formatDisplayString();
     }
 }
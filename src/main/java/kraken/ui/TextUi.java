@@ -1,111 +1,98 @@
 package kraken.ui;
 
-import java.util.Scanner;
-
-import kraken.task.Task;
-import kraken.task.TaskList;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.NoSuchElementException;
 
 /**
  * A text-based UI that prints to stdout and reads from stdin.
  *
- * <p>This is kept as an optional alternative to the JavaFX GUI.</p>
+ * <p>This is kept as an optional alternative to the JavaFX GUI, and is what the headless
+ * {@link kraken.Kraken#main(String[])} drives. Input is read through a {@link BufferedReader}, and output
+ * lines go into a buffered writer as they are produced; it reaches the terminal on {@link #flush()} (once
+ * per command) or whenever the buffer fills, so long responses stream out in large writes.</p>
  */
 public class TextUi implements Ui {
-    private final Scanner scanner = new Scanner(System.in);
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private final BufferedReader in;
+    private final PrintWriter out;
+    private String nextLine;
 
     /**
-     * Returns whether there is another line of user input available.
+     * Creates a text UI reading from stdin and writing to stdout.
      */
-    public boolean hasNextCommand() {
-        return scanner.hasNextLine();
+    public TextUi() {
+        this(new InputStreamReader(System.in, Charset.defaultCharset()),
+                new OutputStreamWriter(System.out, Charset.defaultCharset()));
     }
 
     /**
-     * Reads the next full command line from the user.
+     * Creates a text UI over the given streams.
+     *
+     * @param in source of user input
+     * @param out destination of output; written to only on {@link #flush()} or when the buffer fills
      */
-    public String readCommand() {
-        return scanner.nextLine();
-    }
-
-    public void showLine() {
-        System.out.println(LINE);
-    }
-
-    @Override
-    public void showWelcome() {
-        showLine();
-        System.out.println(" Hello! I'm Kraken");
-        System.out.println(" What can I do for you?");
-        showLine();
-    }
-
-    @Override
-    public void showBye() {
-        System.out.println(" Bye. Hope to see you again soon!");
-    }
-
-    @Override
-    public void showError(String message) {
-        System.out.println(" OOPS!!! " + message);
-    }
-
-    @Override
-    public void showTaskAdded(Task task, int taskCount) {
-        System.out.println(" Got it. I've added this task:");
-        System.out.println("   " + task);
-        System.out.println(" Now you have " + taskCount + " tasks in the list.");
-    }
-
-    @Override
-    public void showTaskDeleted(Task task, int taskCount) {
-        System.out.println(" Noted. I've removed this task:");
-        System.out.println("   " + task);
-        System.out.println(" Now you have " + taskCount + " tasks in the list.");
+    public TextUi(Reader in, Writer out) {
+        this(new BufferedReader(in), new PrintWriter(new BufferedWriter(out, OUTPUT_BUFFER_SIZE), false));
     }
 
-    @Override
-    public void showTaskMarked(Task task) {
-        System.out.println(" Nice! I've marked this task as done:");
-        System.out.println("   " + task);
+    private TextUi(BufferedReader in, PrintWriter out) {
+        this.in = in;
+        this.out = out;
     }
 
     @Override
-    public void showTaskUnmarked(Task task) {
-        System.out.println(" OK, I've marked this task as not done yet:");
-        System.out.println("   " + task);
+    public void writeLine(String line) {
+        out.println(line);
     }
 
-    @Override
-    public void showTaskList(TaskList tasks) {
-        System.out.println(" Here are the tasks in your list:");
-        for (int i = 0; i < tasks.size(); i++) {
-            System.out.println(" " + (i + 1) + "." + tasks.get(i));
+    /**
+     * Returns whether there is another line of user input available.
+     *
+     * <p>Blocks until a line arrives or input ends; a read error is reported on stderr and treated as the
+     * end of input.</p>
+     */
+    public boolean hasNextCommand() {
+        if (nextLine == null) {
+            try {
+                nextLine = in.readLine();
+            } catch (IOException e) {
+                System.err.println("Warning: Unable to read input: " + e.getMessage());
+            }
         }
+        return nextLine != null;
     }
 
-    @Override
-    public void showMatchingTasksHeader() {
-        System.out.println(" Here are the matching tasks in your list:");
-    }
-
-    @Override
-    public void showNoMatchingTasksFound() {
-        System.out.println(" No matching tasks found.");
-    }
-
-    @Override
-    public void showTasksOnDateHeader(String formattedDate) {
-        System.out.println(" Here are the tasks on " + formattedDate + ":");
+    /**
+     * Reads the next full command line from the user.
+     *
+     * @throws NoSuchElementException if input has ended
+     */
+    public String readCommand() {
+        if (!hasNextCommand()) {
+            throw new NoSuchElementException("No more input");
+        }
+        String line = nextLine;
+        nextLine = null;
+        return line;
     }
 
-    @Override
-    public void showTaskWithIndex(int displayIndex, Task task) {
-        System.out.println(" " + displayIndex + "." + task);
+    /**
+     * Writes all buffered output to the underlying stream.
+     */
+    public void flush() {
+        out.flush();
     }
 
-    @Override
-    public void showNoTasksFoundOn(String formattedDate) {
-        System.out.println(" No tasks found on " + formattedDate + ".");
+    public void showLine() {
+        writeLine(LINE);
     }
 }
-
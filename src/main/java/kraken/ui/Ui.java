@@ -1,40 +1,181 @@
 package kraken.ui;
 
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.SortedMap;
+
 import kraken.task.Task;
 import kraken.task.TaskList;
+import kraken.task.TaskStatistics;
+import kraken.task.TaskType;
+import kraken.util.DateTimeUtil;
 
 /**
  * Output surface used by commands to communicate with the user.
+ *
+ * <p>Every message is rendered as lines of text, each handed to {@link #writeLine(String)} as soon as it
+ * is produced. Implementations only decide where the lines go, so a long response (e.g. {@code list} on a
+ * large list) can be shown, written or chunked while the command is still running, and is never held as
+ * one big string unless the implementation chooses to build one. As {@code writeLine} is the only abstract
+ * method, any line sink can serve as a UI, e.g. {@code Ui ui = lines::add}.</p>
  */
+@FunctionalInterface
 public interface Ui {
     /**
      * Horizontal separator line used between UI sections.
      */
     String LINE = "____________________________________________________________";
 
-    void showWelcome();
+    /**
+     * Emits one line of output.
+     *
+     * @param line line text, without a line separator
+     */
+    void writeLine(String line);
+
+    default void showWelcome() {
+        writeLine(LINE);
+        writeLine(" Hello! I'm Kraken");
+        writeLine(" What can I do for you?");
+        writeLine(LINE);
+    }
+
+    default void showBye() {
+        writeLine(" Bye. Hope to see you again soon!");
+    }
+
+    default void showError(String message) {
+        writeLine(" OOPS!!! " + message);
+    }
+
+    default void showTaskAdded(Task task, int taskCount) {
+        writeLine(" Got it. I've added this task:");
+        writeLine("   " + task);
+        writeLine(" Now you have " + taskCount + " tasks in the list.");
+    }
+
+    default void showTaskDeleted(Task task, int taskCount) {
+        writeLine(" Noted. I've removed this task:");
+        writeLine("   " + task);
+        writeLine(" Now you have " + taskCount + " tasks in the list.");
+    }
+
+    default void showTaskMarked(Task task) {
+        writeLine(" Nice! I've marked this task as done:");
+        writeLine("   " + task);
+    }
+
+    default void showTaskUnmarked(Task task) {
+        writeLine(" OK, I've marked this task as not done yet:");
+        writeLine("   " + task);
+    }
+
+    default void showTaskList(TaskList tasks) {
+        writeLine(" Here are the tasks in your list:");
+        for (int i = 0; i < tasks.size(); i++) {
+            writeLine(" " + (i + 1) + "." + tasks.get(i));
+        }
+    }
+
+    default void showMatchingTasksHeader() {
+        writeLine(" Here are the matching tasks in your list:");
+    }
+
+    default void showNoMatchingTasksFound() {
+        writeLine(" No matching tasks found.");
+    }
+
+    default void showTasksOnDateHeader(String formattedDate) {
+        writeLine(" Here are the tasks on " + formattedDate + ":");
+    }
+
+    default void showTaskWithIndex(int displayIndex, Task task) {
+        writeLine(" " + displayIndex + "." + task);
+    }
+
+    default void showNoTasksFoundOn(String formattedDate) {
+        writeLine(" No tasks found on " + formattedDate + ".");
+    }
+
+    default void showUpcomingTasksHeader() {
+        writeLine(" Here are your upcoming tasks:");
+    }
+
+    default void showNoUpcomingTasks() {
+        writeLine(" No upcoming tasks.");
+    }
 
-    void showBye();
+    default void showSortedTaskListHeader(String orderName) {
+        writeLine(" Here are the tasks in your list, sorted " + orderName + ":");
+    }
 
-    void showError(String message);
+    default void showQueryPlan(String query, String plan, int rowsScanned, int rowsMatched) {
+        writeLine(" Query: " + query);
+        writeLine(" Plan: " + plan);
+        writeLine(" Rows scanned: " + rowsScanned + ", matched: " + rowsMatched);
+    }
 
-    void showTaskAdded(Task task, int taskCount);
+    default void showStatistics(TaskStatistics stats) {
+        writeLine(" Here are some statistics about your list:");
+        writeLine(" Tasks: " + stats.getTaskCount() + " (T: " + stats.getCount(TaskType.TODO)
+                + ", D: " + stats.getCount(TaskType.DEADLINE) + ", E: " + stats.getCount(TaskType.EVENT)
+                + "; recurring: " + stats.getRecurringCount() + ")");
+        writeLine(" Done: " + stats.getDoneCount() + ", not done: " + stats.getOpenCount());
+        writeLine(" Overdue deadlines: " + stats.getOverdueDeadlines());
+        writeLine(" Deadlines and events per day (next " + TaskList.STATISTICS_DAYS + " days):");
+        showDateCounts(stats.getTasksPerDay(), "");
+        writeLine(" Deadlines and events per week (next " + TaskList.STATISTICS_WEEKS + " weeks):");
+        showDateCounts(stats.getTasksPerWeek(), "week of ");
+        writeLine(" Distinct descriptions: " + stats.getDistinctDescriptions());
+        long bytesSaved = stats.getDescriptionBytesSaved();
+        if (bytesSaved >= 0) {
+            writeLine(" Memory saved by sharing descriptions: " + bytesSaved + " bytes");
+        } else {
+            writeLine(" Extra memory used to share descriptions (too few repeats): " + -bytesSaved + " bytes");
+        }
+    }
 
-    void showTaskDeleted(Task task, int taskCount);
+    private void showDateCounts(SortedMap<LocalDate, Integer> counts, String prefix) {
+        if (counts.isEmpty()) {
+            writeLine("   none");
+        }
+        for (Map.Entry<LocalDate, Integer> entry : counts.entrySet()) {
+            writeLine("   " + prefix + DateTimeUtil.formatForDisplay(entry.getKey().atStartOfDay()) + ": "
+                    + entry.getValue());
+        }
+    }
 
-    void showTaskMarked(Task task);
+    default void showReminder(Task task) {
+        writeLine(" Reminder: this is coming up soon:");
+        writeLine("   " + task);
+    }
 
-    void showTaskUnmarked(Task task);
+    default void showConflictsHeader() {
+        writeLine(" These events overlap:");
+    }
 
-    void showTaskList(TaskList tasks);
+    default void showNoConflicts() {
+        writeLine(" No overlapping events.");
+    }
 
-    void showMatchingTasksHeader();
+    default void showConflict(int firstIndex, Task first, int secondIndex, Task second) {
+        writeLine(" " + firstIndex + "." + first);
+        writeLine("   overlaps " + secondIndex + "." + second);
+    }
 
-    void showNoMatchingTasksFound();
+    default void showOverlappingEventsWarning() {
+        writeLine(" Heads up, this overlaps with:");
+    }
 
-    void showTasksOnDateHeader(String formattedDate);
+    default void showFreeSlotsHeader(String formattedRange) {
+        writeLine(" Here are your free slots on " + formattedRange + ":");
+    }
 
-    void showTaskWithIndex(int displayIndex, Task task);
+    default void showFreeSlot(String formattedFrom, String formattedTo) {
+        writeLine(" from: " + formattedFrom + " to: " + formattedTo);
+    }
 
-    void showNoTasksFoundOn(String formattedDate);
+    default void showNoFreeSlots(String formattedRange) {
+        writeLine(" No free slots on " + formattedRange + ".");
+    }
 }
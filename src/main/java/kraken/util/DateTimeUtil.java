@@ -2,9 +2,14 @@ package kraken.util;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import kraken.exception.KrakenException;
 
@@ -19,12 +24,23 @@ import kraken.exception.KrakenException;
  * - d/M/yyyy HHmm
  *
  * Storage uses ISO local date-time (e.g., 2019-12-02T18:00).
+ *
+ * Inputs are first classified by shape (the pattern of digits and separators). The usual shapes are
+ * parsed by hand and range-checked, so both well-formed and malformed dates are handled without throwing
+ * and catching exceptions; only unusual shapes that a formatter might still accept (e.g. five-digit
+ * years or zero-padded days) go through the formatters.
+ *
+ * Tasks keep their dates compactly as "epoch minutes": whole minutes since 1970-01-01T00:00, with no
+ * time zone attached. Helpers here convert between that form and {@link LocalDateTime}.
  */
 public class DateTimeUtil {
     private static final DateTimeFormatter DISPLAY_DATE =
             DateTimeFormatter.ofPattern("MMM d uuuu");
     private static final DateTimeFormatter DISPLAY_DATE_TIME =
             DateTimeFormatter.ofPattern("MMM d uuuu HHmm");
+    private static final int DISPLAY_CACHE_CAPACITY = 4096;
+    /** Display strings by epoch minute; concurrent because reminders format dates off the UI thread. */
+    private static final Map<Long, String> DISPLAY_CACHE = new ConcurrentHashMap<>();
     private static final DateTimeFormatter STORAGE_DATE_TIME =
             DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
@@ -37,13 +53,22 @@ public class DateTimeUtil {
     private static final DateTimeFormatter USER_DATE_TIME_SLASH =
             DateTimeFormatter.ofPattern("d/M/uuuu HHmm").withResolverStyle(ResolverStyle.STRICT);
 
-    private static final DateTimeFormatter[] USER_DATE_TIME_FORMATTERS = new DateTimeFormatter[] {
-        USER_DATE_TIME_ISO,
+    private static final long SECONDS_PER_MINUTE = 60;
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private static final DateTimeFormatter[] ISO_DATE_TIME_FORMATTERS = new DateTimeFormatter[] {
+        USER_DATE_TIME_ISO
+    };
+
+    private static final DateTimeFormatter[] SLASH_DATE_TIME_FORMATTERS = new DateTimeFormatter[] {
         USER_DATE_TIME_SLASH
     };
 
-    private static final DateTimeFormatter[] USER_DATE_FORMATTERS = new DateTimeFormatter[] {
-        USER_DATE_ISO,
+    private static final DateTimeFormatter[] ISO_DATE_FORMATTERS = new DateTimeFormatter[] {
+        USER_DATE_ISO
+    };
+
+    private static final DateTimeFormatter[] SLASH_DATE_FORMATTERS = new DateTimeFormatter[] {
         USER_DATE_SLASH
     };
 
@@ -63,16 +88,11 @@ public class DateTimeUtil {
                     + "Use yyyy-MM-dd or d/M/yyyy, optionally followed by HHmm (e.g., 2019-12-02 1800).");
         }
 
-        LocalDateTime dateTime = tryParseLocalDateTime(text, USER_DATE_TIME_FORMATTERS);
+        LocalDateTime dateTime = tryParseUserDateTime(text);
         if (dateTime != null) {
             return dateTime;
         }
 
-        LocalDate date = tryParseLocalDate(text, USER_DATE_FORMATTERS);
-        if (date != null) {
-            return date.atStartOfDay();
-        }
-
         throw new KrakenException("Invalid date/time: '" + text + "'. "
                 + "Use yyyy-MM-dd or d/M/yyyy, optionally followed by HHmm (e.g., 2019-12-02 1800).");
     }
@@ -92,17 +112,13 @@ public class DateTimeUtil {
             throw new KrakenException("Date cannot be empty. Use yyyy-MM-dd or d/M/yyyy (e.g., 2019-12-02).");
         }
 
-        LocalDate date = tryParseLocalDate(text, USER_DATE_FORMATTERS);
-        if (date != null) {
-            return date;
+        // Date-times in the supported user formats are accepted too; we use the date portion.
+        LocalDateTime dateTime = tryParseUserDateTime(text);
+        if (dateTime != null) {
+            return dateTime.toLocalDate();
         }
 
-        // Allow users to provide a date-time in the supported user formats; we use the date portion.
-        try {
-            return parseUserDateTime(text).toLocalDate();
-        } catch (KrakenException e) {
-            throw new KrakenException("Invalid date: '" + text + "'. Use yyyy-MM-dd or d/M/yyyy (e.g., 2019-12-02).");
-        }
+        throw new KrakenException("Invalid date: '" + text + "'. Use yyyy-MM-dd or d/M/yyyy (e.g., 2019-12-02).");
     }
 
     /**
@@ -118,6 +134,11 @@ public class DateTimeUtil {
             throw new KrakenException("Stored date/time cannot be empty.");
         }
 
+        LocalDateTime dateTime = tryParseStorageDateTime(text);
+        if (dateTime != null) {
+            return dateTime;
+        }
+
         try {
             return LocalDateTime.parse(text, STORAGE_DATE_TIME);
         } catch (DateTimeParseException e) {
@@ -137,12 +158,39 @@ public class DateTimeUtil {
         if (dateTime == null) {
             return "";
         }
-        if (isMidnight(dateTime)) {
-            return dateTime.toLocalDate().format(DISPLAY_DATE);
+        if (dateTime.getSecond() == 0 && dateTime.getNano() == 0) {
+            return formatForDisplay(toEpochMinute(dateTime));
         }
         return dateTime.format(DISPLAY_DATE_TIME);
     }
 
+    /**
+     * Formats a date/time given in epoch minutes for user-facing display.
+     *
+     * <p>Produces the same text as {@link #formatForDisplay(LocalDateTime)}. Results are shared through a
+     * bounded cache, as the same few dates are typically displayed over and over; the cache is simply
+     * emptied once it holds {@value #DISPLAY_CACHE_CAPACITY} entries.</p>
+     *
+     * @param epochMinute date/time as minutes since 1970-01-01T00:00
+     * @return formatted display string
+     */
+    public static String formatForDisplay(long epochMinute) {
+        String cached = DISPLAY_CACHE.get(epochMinute);
+        if (cached != null) {
+            return cached;
+        }
+
+        LocalDateTime dateTime = fromEpochMinute(epochMinute);
+        String formatted = isMidnight(dateTime)
+                ? dateTime.toLocalDate().format(DISPLAY_DATE)
+                : dateTime.format(DISPLAY_DATE_TIME);
+        if (DISPLAY_CACHE.size() >= DISPLAY_CACHE_CAPACITY) {
+            DISPLAY_CACHE.clear();
+        }
+        DISPLAY_CACHE.put(epochMinute, formatted);
+        return formatted;
+    }
+
     /**
      * Formats a date/time for persistence.
      *
@@ -156,6 +204,80 @@ public class DateTimeUtil {
         return dateTime.format(STORAGE_DATE_TIME);
     }
 
+    /**
+     * Formats a date/time given in epoch minutes for persistence.
+     *
+     * <p>Produces exactly the same text as {@link #formatForStorage(LocalDateTime)} without creating any
+     * date/time objects for years 0000-9999.</p>
+     *
+     * @param epochMinute date/time as minutes since 1970-01-01T00:00
+     * @return ISO local date-time string, e.g. {@code 2019-12-02T18:00:00}
+     */
+    public static String formatForStorage(long epochMinute) {
+        long epochDay = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+        int minuteOfDay = (int) Math.floorMod(epochMinute, MINUTES_PER_DAY);
+
+        // Civil-from-days conversion (proleptic Gregorian calendar), see H. Hinnant's date algorithms.
+        long shifted = epochDay + 719_468;
+        long era = Math.floorDiv(shifted, 146_097);
+        long dayOfEra = shifted - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 0 || year > 9999) {
+            return formatForStorage(fromEpochMinute(epochMinute));
+        }
+
+        char[] out = new char[19];
+        writeDigits(out, 0, (int) year, 4);
+        out[4] = '-';
+        writeDigits(out, 5, month, 2);
+        out[7] = '-';
+        writeDigits(out, 8, day, 2);
+        out[10] = 'T';
+        writeDigits(out, 11, minuteOfDay / 60, 2);
+        out[13] = ':';
+        writeDigits(out, 14, minuteOfDay % 60, 2);
+        out[16] = ':';
+        out[17] = '0';
+        out[18] = '0';
+        return new String(out);
+    }
+
+    /**
+     * Converts a date/time to whole minutes since 1970-01-01T00:00, dropping seconds and nanoseconds.
+     *
+     * @param dateTime date/time to convert
+     * @return epoch minutes
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Converts whole minutes since 1970-01-01T00:00 back to a date/time.
+     *
+     * @param epochMinute epoch minutes
+     * @return the corresponding date/time
+     */
+    public static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the epoch minute at which the given date starts.
+     *
+     * @param date date to convert
+     * @return epoch minutes at the start of {@code date}
+     */
+    public static long startOfDayEpochMinute(LocalDate date) {
+        return date.toEpochDay() * MINUTES_PER_DAY;
+    }
+
     /**
      * Returns whether the given date/time is exactly midnight (00:00:00.000000000).
      *
@@ -170,6 +292,137 @@ public class DateTimeUtil {
                 && dateTime.getNano() == 0;
     }
 
+    /**
+     * Parses user date/time text in any supported format, returning {@code null} instead of throwing.
+     *
+     * <p>{@code yyyy-MM-dd} and {@code d/M/yyyy} dates (one- or two-digit day and month), optionally
+     * followed by a space and {@code HHmm}, are parsed by hand. Other text made only of digits, signs,
+     * separators and spaces is handed to the one formatter family its separator selects, so unusual but
+     * valid inputs keep working; anything else is rejected outright.</p>
+     *
+     * @param text trimmed, non-empty input
+     * @return parsed date/time (date-only inputs at start of day), or {@code null} if invalid
+     */
+    private static LocalDateTime tryParseUserDateTime(String text) {
+        int length = text.length();
+        int dateEnd = text.indexOf(' ');
+        int minuteOfDay = 0;
+        if (dateEnd == -1) {
+            dateEnd = length;
+        } else if (length == dateEnd + 5 && areDigits(text, dateEnd + 1, length)) {
+            int hour = parseDigits(text, dateEnd + 1, dateEnd + 3);
+            int minute = parseDigits(text, dateEnd + 3, length);
+            if (hour > 23 || minute > 59) {
+                return null;
+            }
+            minuteOfDay = hour * 60 + minute;
+        } else {
+            return tryParseUnusualUserDateTime(text);
+        }
+
+        int year;
+        int month;
+        int day;
+        if (dateEnd == 10 && text.charAt(4) == '-' && text.charAt(7) == '-'
+                && areDigits(text, 0, 4) && areDigits(text, 5, 7) && areDigits(text, 8, 10)) {
+            year = parseDigits(text, 0, 4);
+            month = parseDigits(text, 5, 7);
+            day = parseDigits(text, 8, 10);
+        } else {
+            int firstSlash = text.indexOf('/');
+            int secondSlash = (firstSlash == -1) ? -1 : text.indexOf('/', firstSlash + 1);
+            boolean isSlashShape = (firstSlash == 1 || firstSlash == 2)
+                    && (secondSlash == firstSlash + 2 || secondSlash == firstSlash + 3)
+                    && dateEnd == secondSlash + 5
+                    && areDigits(text, 0, firstSlash) && areDigits(text, firstSlash + 1, secondSlash)
+                    && areDigits(text, secondSlash + 1, dateEnd);
+            if (!isSlashShape) {
+                return tryParseUnusualUserDateTime(text);
+            }
+            day = parseDigits(text, 0, firstSlash);
+            month = parseDigits(text, firstSlash + 1, secondSlash);
+            year = parseDigits(text, secondSlash + 1, dateEnd);
+        }
+
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    /**
+     * Parses user date/time text whose shape the fast path does not cover, using the formatters.
+     *
+     * @param text trimmed, non-empty input
+     * @return parsed date/time, or {@code null} if invalid
+     */
+    private static LocalDateTime tryParseUnusualUserDateTime(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean isPossible = (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '/' || c == ' ';
+            if (!isPossible) {
+                return null;
+            }
+        }
+
+        boolean isSlash = text.indexOf('/') != -1;
+        LocalDateTime dateTime = tryParseLocalDateTime(text,
+                isSlash ? SLASH_DATE_TIME_FORMATTERS : ISO_DATE_TIME_FORMATTERS);
+        if (dateTime != null) {
+            return dateTime;
+        }
+        LocalDate date = tryParseLocalDate(text, isSlash ? SLASH_DATE_FORMATTERS : ISO_DATE_FORMATTERS);
+        return (date == null) ? null : date.atStartOfDay();
+    }
+
+    /**
+     * Parses the stored {@code yyyy-MM-ddTHH:mm} or {@code yyyy-MM-ddTHH:mm:ss} shape by hand.
+     *
+     * @param text trimmed, non-empty stored value
+     * @return parsed date/time, or {@code null} if the value has another shape or is out of range
+     */
+    private static LocalDateTime tryParseStorageDateTime(String text) {
+        int length = text.length();
+        boolean hasSeconds = length == 19 && text.charAt(16) == ':' && areDigits(text, 17, 19);
+        boolean isShape = (length == 16 || hasSeconds)
+                && text.charAt(4) == '-' && text.charAt(7) == '-' && text.charAt(10) == 'T'
+                && text.charAt(13) == ':' && areDigits(text, 0, 4) && areDigits(text, 5, 7)
+                && areDigits(text, 8, 10) && areDigits(text, 11, 13) && areDigits(text, 14, 16);
+        if (!isShape) {
+            return null;
+        }
+
+        int year = parseDigits(text, 0, 4);
+        int month = parseDigits(text, 5, 7);
+        int day = parseDigits(text, 8, 10);
+        int hour = parseDigits(text, 11, 13);
+        int minute = parseDigits(text, 14, 16);
+        int second = hasSeconds ? parseDigits(text, 17, 19) : 0;
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))
+                || hour > 23 || minute > 59 || second > 59) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second);
+    }
+
+    private static boolean areDigits(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int parseDigits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
     /**
      * Tries to parse the given text as a {@link LocalDateTime} using the provided formatters.
      *
@@ -205,4 +458,11 @@ public class DateTimeUtil {
         }
         return null;
     }
+
+    private static void writeDigits(char[] out, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package kraken;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import kraken.storage.DeferredStorage;
+import kraken.task.TaskList;
+
+/**
+ * Unit tests for {@link ScriptRunner}.
+ */
+public class ScriptRunnerTest {
+    /**
+     * Verifies that a script runs every command, reports failing lines and saves once at the end.
+     */
+    @Test
+    public void run_collectsErrorsAndSavesAtEnd() throws IOException {
+        Path dataFile = Files.createTempDirectory("kraken").resolve("kraken.txt");
+        ScriptRunner runner = new ScriptRunner(new DeferredStorage(dataFile, 0));
+        String script = String.join("\n", "todo read book", "", "deadline report", "todo write essay", "mark 1",
+                "delete 9", "bye", "todo never run");
+
+        runner.run(new BufferedReader(new StringReader(script)));
+
+        assertEquals(6, runner.getCommandCount());
+        assertEquals(2, runner.getErrors().size());
+        assertTrue(runner.getErrors().get(0).startsWith("Line 3: "), runner.getErrors().get(0));
+        assertTrue(runner.getErrors().get(1).startsWith("Line 6: "), runner.getErrors().get(1));
+        assertEquals(List.of("T | 1 | read book", "T | 0 | write essay"), Files.readAllLines(dataFile));
+
+        TaskList reloaded = new ScriptRunner(new DeferredStorage(dataFile, 0)).getTasks();
+        assertEquals(2, reloaded.size());
+    }
+
+    /**
+     * Verifies that saves are held back until flushed or until the save interval is reached.
+     */
+    @Test
+    public void deferredStorage_writesOnFlushOrInterval() throws IOException {
+        Path dataFile = Files.createTempDirectory("kraken").resolve("kraken.txt");
+        TaskList tasks = new TaskList();
+        DeferredStorage storage = new DeferredStorage(dataFile, 3);
+
+        storage.save(tasks.asList());
+        storage.save(tasks.asList());
+        assertFalse(Files.exists(dataFile));
+        storage.save(tasks.asList());
+        assertTrue(Files.exists(dataFile));
+
+        Files.delete(dataFile);
+        storage.save(tasks.asList());
+        storage.flush();
+        assertTrue(Files.exists(dataFile));
+    }
+}
@@ -0,0 +1,153 @@
+package kraken.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.paint.Color;
+import kraken.gui.Avatar;
+import kraken.gui.ChatMessage;
+import kraken.gui.DialogBox;
+import kraken.gui.DialogCell;
+
+/**
+ * Measures the time to show one chat message, loading a {@link DialogBox} from FXML versus going through
+ * the transcript's {@link DialogCell}s.
+ *
+ * <p>Run with {@code ./gradlew dialogBenchmark}, which uses Monocle's headless platform so no display is
+ * needed. The FXML variant parses the markup {@code DialogBox} was previously loaded from, once per message,
+ * as it used to be. The cell variants take the path the GUI takes: a cell bound to a transcript
+ * {@link ListView} is given the next row, either as a new cell, whose box is built in code, or as a cell the
+ * list reuses while scrolling. Everything runs on the JavaFX application thread, as in the GUI.</p>
+ */
+public class DialogBoxBenchmark {
+    private static final int WARMUP_BOXES = 2_000;
+    private static final int MEASURED_BOXES = 5_000;
+    private static final int TRANSCRIPT_SIZE = 100;
+    private static final String DIALOG_BOX_FXML = String.join("\n",
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+            "<?import javafx.geometry.Insets?>",
+            "<?import javafx.scene.control.Label?>",
+            "<?import javafx.scene.image.ImageView?>",
+            "<?import javafx.scene.layout.HBox?>",
+            "<fx:root alignment=\"TOP_RIGHT\" maxHeight=\"1.7976931348623157E308\"",
+            "         maxWidth=\"1.7976931348623157E308\" prefWidth=\"400.0\" type=\"javafx.scene.layout.HBox\"",
+            "         xmlns=\"http://javafx.com/javafx/17\" xmlns:fx=\"http://javafx.com/fxml/1\">",
+            "    <children>",
+            "        <Label fx:id=\"dialog\" text=\"Label\" wrapText=\"true\" minHeight=\"-Infinity\"/>",
+            "        <ImageView fx:id=\"displayPicture\" fitHeight=\"99.0\" fitWidth=\"99.0\" pickOnBounds=\"true\"",
+            "                   preserveRatio=\"true\"/>",
+            "    </children>",
+            "    <padding>",
+            "        <Insets bottom=\"15.0\" left=\"5.0\" right=\"5.0\" top=\"15.0\"/>",
+            "    </padding>",
+            "</fx:root>");
+
+    /**
+     * Prints the average microseconds per message for each way of showing it.
+     *
+     * @param args unused
+     * @throws Exception if the JavaFX toolkit cannot be started or the benchmark fails
+     */
+    public static void main(String[] args) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("The JavaFX toolkit could not start, so nothing was measured. Without a"
+                    + " display, run with -Dglass.platform=Monocle -Dmonocle.platform=Headless and Monocle on the"
+                    + " class path, as ./gradlew dialogBenchmark does.", e);
+        }
+        started.await();
+
+        Image image = Avatar.solid(Color.WHITE);
+        FutureTask<Void> benchmark = new FutureTask<>(() -> {
+            ListView<ChatMessage> transcript = newTranscript();
+            int[] row = new int[1];
+            DialogCell reused = newCell(transcript, image);
+            System.out.printf("FXML box:    %.1f us/message%n", microsPerBox(() -> loadFromFxml("hello", image)));
+            System.out.printf("New cell:    %.1f us/message%n", microsPerBox(() -> {
+                DialogCell cell = newCell(transcript, image);
+                cell.updateIndex(nextRow(row));
+                return cell;
+            }));
+            System.out.printf("Reused cell: %.1f us/message%n", microsPerBox(() -> {
+                reused.updateIndex(nextRow(row));
+                return reused;
+            }));
+            return null;
+        });
+        Platform.runLater(benchmark);
+        try {
+            benchmark.get();
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    private static double microsPerBox(Supplier<Node> factory) {
+        Node[] boxes = new Node[MEASURED_BOXES];
+        for (int i = 0; i < WARMUP_BOXES; i++) {
+            boxes[i % MEASURED_BOXES] = factory.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_BOXES; i++) {
+            boxes[i] = factory.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        // Keep the boxes reachable until after the measurement.
+        if (boxes[MEASURED_BOXES - 1] == null) {
+            throw new IllegalStateException();
+        }
+        return elapsed / 1_000.0 / MEASURED_BOXES;
+    }
+
+    private static ListView<ChatMessage> newTranscript() {
+        List<ChatMessage> messages = new ArrayList<>(TRANSCRIPT_SIZE);
+        for (int i = 0; i < TRANSCRIPT_SIZE; i += 2) {
+            messages.add(ChatMessage.fromUser("list"));
+            messages.add(ChatMessage.fromKraken(" Here are the tasks in your list:\n 1.[T][ ] read book " + i));
+        }
+        return new ListView<>(FXCollections.observableArrayList(messages));
+    }
+
+    private static DialogCell newCell(ListView<ChatMessage> transcript, Image image) {
+        DialogCell cell = new DialogCell(transcript, image, image, () -> { });
+        cell.updateListView(transcript);
+        return cell;
+    }
+
+    private static int nextRow(int[] row) {
+        row[0] = (row[0] + 1) % TRANSCRIPT_SIZE;
+        return row[0];
+    }
+
+    private static HBox loadFromFxml(String text, Image image) {
+        FXMLLoader loader = new FXMLLoader();
+        HBox root = new HBox();
+        loader.setRoot(root);
+        try {
+            loader.load(new ByteArrayInputStream(DIALOG_BOX_FXML.getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ((Label) loader.getNamespace().get("dialog")).setText(text);
+        ((ImageView) loader.getNamespace().get("displayPicture")).setImage(image);
+        return root;
+    }
+}
@@ -0,0 +1,111 @@
+package kraken.benchmark;
+
+import java.time.LocalDateTime;
+
+import kraken.task.Deadline;
+import kraken.task.Event;
+import kraken.task.Task;
+
+/**
+ * Measures the retained heap per {@link Deadline} and {@link Event}, against tasks holding their dates as
+ * {@link LocalDateTime} objects.
+ *
+ * <p>Run with {@code ./gradlew memoryBenchmark}. Every task gets its own date/time values so that no
+ * date objects are shared, and all tasks share one description so that only the date representation
+ * differs between the variants. The {@link LocalDateTime} variants keep the field layout Deadline and Event
+ * had before their dates were stored as epoch minutes.</p>
+ */
+public class TaskMemoryBenchmark {
+    private static final int TASK_COUNT = 200_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    /**
+     * Prints the average retained bytes per deadline and per event, with {@link LocalDateTime} fields and
+     * with epoch minutes.
+     *
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        String description = "weekly report";
+        double deadlineBefore = bytesPerTask(i -> new LocalDateTimeDeadline(description, BASE.plusMinutes(i)));
+        double deadlineAfter = bytesPerTask(i -> new Deadline(description, BASE.plusMinutes(i)));
+        double eventBefore = bytesPerTask(i ->
+                new LocalDateTimeEvent(description, BASE.plusMinutes(i), BASE.plusMinutes(i + 60)));
+        double eventAfter = bytesPerTask(i -> new Event(description, BASE.plusMinutes(i), BASE.plusMinutes(i + 60)));
+
+        System.out.printf("%-10s %16s %16s%n", "", "LocalDateTime", "epoch minutes");
+        System.out.printf("%-10s %10.1f bytes %10.1f bytes%n", "Deadline:", deadlineBefore, deadlineAfter);
+        System.out.printf("%-10s %10.1f bytes %10.1f bytes%n", "Event:", eventBefore, eventAfter);
+    }
+
+    private static double bytesPerTask(TaskFactory factory) {
+        Task[] tasks = new Task[TASK_COUNT];
+        long before = usedHeapAfterGc();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks[i] = factory.create(i);
+        }
+        long after = usedHeapAfterGc();
+        double perTask = (double) (after - before) / TASK_COUNT;
+        // Keep the tasks reachable until after the measurement.
+        if (tasks[TASK_COUNT - 1] == null) {
+            throw new IllegalStateException();
+        }
+        return perTask;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Creates the {@code i}-th task of a benchmark run.
+     */
+    private interface TaskFactory {
+        Task create(int i);
+    }
+
+    /**
+     * A deadline holding its due date as a {@link LocalDateTime}.
+     */
+    private static final class LocalDateTimeDeadline extends Task {
+        private final LocalDateTime by;
+
+        LocalDateTimeDeadline(String description, LocalDateTime by) {
+            super(description);
+            this.by = by;
+        }
+
+        @Override
+        public LocalDateTime getScheduledAt() {
+            return by;
+        }
+    }
+
+    /**
+     * An event holding its start and end as {@link LocalDateTime}s.
+     */
+    private static final class LocalDateTimeEvent extends Task {
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+
+        LocalDateTimeEvent(String description, LocalDateTime from, LocalDateTime to) {
+            super(description);
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public LocalDateTime getScheduledAt() {
+            return from;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package kraken.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ChatMessage}.
+ */
+public class ChatMessageTest {
+    private static final String NL = System.lineSeparator();
+
+    /**
+     * Verifies that a streamed reply joins its chunks only when its text is read, and that the complete
+     * reply is unaffected by later changes to the chunks.
+     */
+    @Test
+    public void fromKraken_chunks_joinedWithLineSeparators() {
+        List<String> chunks = new ArrayList<>(List.of("1. read book"));
+        ChatMessage partial = ChatMessage.partialReply(chunks);
+        chunks.add("2. return book");
+
+        assertTrue(partial.isPending());
+        assertEquals("1. read book" + NL + "2. return book", partial.getText());
+
+        ChatMessage complete = ChatMessage.fromKraken(chunks);
+        chunks.add("3. lost");
+        assertFalse(complete.isPending());
+        assertEquals("1. read book" + NL + "2. return book", complete.getText());
+        assertEquals(complete.getText(), ChatMessage.decode(complete.encode()).getText());
+        assertEquals("", ChatMessage.fromKraken(List.of()).getText());
+    }
+}
@@ -0,0 +1,81 @@
+package kraken.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link Transcript}.
+ */
+public class TranscriptTest {
+    private static final int CAP = 20;
+
+    /**
+     * Verifies that trimming skips pending replies but still drops the entries behind them.
+     */
+    @Test
+    public void add_pendingReplyAtFront_evictsEntriesBehindIt() throws IOException {
+        Transcript transcript = newTranscript();
+        ChatMessage pending = ChatMessage.pendingReply();
+        transcript.add(ChatMessage.fromUser("list"), pending);
+        for (int i = 0; i < 40; i++) {
+            transcript.add(ChatMessage.fromKraken("reminder " + i));
+        }
+
+        List<ChatMessage> loaded = transcript.getMessages();
+        assertEquals(CAP, loaded.size());
+        assertSame(pending, loaded.get(0));
+        assertEquals("reminder 21", loaded.get(1).getText());
+        assertEquals("reminder 39", loaded.get(CAP - 1).getText());
+        transcript.close();
+    }
+
+    /**
+     * Verifies that more pending replies than the cap stay loaded while every other entry is spilled, and
+     * that completed replies are dropped and read back from the log in their original place.
+     */
+    @Test
+    public void add_morePendingRepliesThanCap_keepsOnlyPendingLoaded() throws IOException {
+        Transcript transcript = newTranscript();
+        List<ChatMessage> pending = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            ChatMessage reply = ChatMessage.pendingReply();
+            pending.add(reply);
+            transcript.add(ChatMessage.fromUser("command " + i), reply);
+        }
+
+        assertEquals(pending, transcript.getMessages());
+
+        transcript.replace(pending.get(0), ChatMessage.partialReply(List.of("partial 0")));
+        assertEquals("partial 0", transcript.getMessages().get(0).getText());
+        transcript.replace(transcript.getMessages().get(0), ChatMessage.fromKraken("reply 0"));
+        assertEquals(pending.subList(1, 30), transcript.getMessages());
+
+        while (transcript.hasOlder()) {
+            transcript.loadOlder();
+        }
+        List<ChatMessage> all = transcript.getMessages();
+        assertEquals(60, all.size());
+        assertEquals("command 0", all.get(0).getText());
+        assertEquals("reply 0", all.get(1).getText());
+        assertFalse(all.get(1).isPending());
+        for (int i = 1; i < 30; i++) {
+            assertEquals("command " + i, all.get(2 * i).getText());
+            assertSame(pending.get(i), all.get(2 * i + 1));
+        }
+        assertTrue(all.get(59).isPending());
+        transcript.close();
+    }
+
+    private static Transcript newTranscript() throws IOException {
+        return new Transcript(CAP, Files.createTempDirectory("kraken").resolve("transcript.log"));
+    }
+}
@@ -0,0 +1,171 @@
+package kraken.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import kraken.command.Command;
+import kraken.command.DeadlineCommand;
+import kraken.command.DeleteCommand;
+import kraken.command.EventCommand;
+import kraken.command.StatsCommand;
+import kraken.command.UnmarkCommand;
+import kraken.exception.KrakenException;
+
+/**
+ * Unit tests for {@link CommandRegistry}.
+ */
+public class CommandRegistryTest {
+    /**
+     * A stand-in for an in-house command shipped as a plugin.
+     */
+    private static class StatusParser implements CommandParser {
+        @Override
+        public String getName() {
+            return "status";
+        }
+
+        @Override
+        public Command parse(CommandLexer input) {
+            return new StatsCommand();
+        }
+    }
+
+    private static CommandRegistry newRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        Parser.registerBuiltIns(registry);
+        return registry;
+    }
+
+    /**
+     * Verifies that unambiguous prefixes resolve to their command.
+     */
+    @Test
+    public void parse_unambiguousPrefix_dispatchesToCommand() throws KrakenException {
+        CommandRegistry registry = newRegistry();
+
+        assertInstanceOf(DeadlineCommand.class, registry.parse("dea return book /by 2019-12-02"));
+        assertInstanceOf(UnmarkCommand.class, registry.parse("unm 1"));
+    }
+
+    /**
+     * Verifies that shared prefixes are rejected with the candidate commands, and {@code delete} and
+     * {@code bye} are never abbreviated.
+     */
+    @Test
+    public void parse_ambiguousPrefix_throwsKrakenException() {
+        CommandRegistry registry = newRegistry();
+
+        KrakenException e = assertThrows(KrakenException.class, () -> registry.parse("u 1"));
+        assertTrue(e.getMessage().contains("upcoming, unmark"), e.getMessage());
+        e = assertThrows(KrakenException.class, () -> registry.parse("del 1"));
+        assertTrue(e.getMessage().contains("I don't understand"), e.getMessage());
+        e = assertThrows(KrakenException.class, () -> registry.parse("by"));
+        assertTrue(e.getMessage().contains("I don't understand"), e.getMessage());
+    }
+
+    /**
+     * Verifies the abbreviations that became valid with prefix matching: {@code d} and {@code de} are read
+     * as {@code deadline} and {@code ev} as {@code event}, so a mistyped {@code delete} is rejected by the
+     * deadline's own validation instead of deleting or being unknown.
+     */
+    @Test
+    public void parse_shortPrefixOfTaskCommand_dispatchesToThatCommand() throws KrakenException {
+        CommandRegistry registry = newRegistry();
+
+        assertInstanceOf(DeadlineCommand.class, registry.parse("d return book /by 2019-12-02"));
+        assertInstanceOf(DeadlineCommand.class, registry.parse("de return book /by 2019-12-02"));
+        assertInstanceOf(EventCommand.class, registry.parse("ev meeting /from 2019-12-02 1400 /to 2019-12-02 1600"));
+        KrakenException e = assertThrows(KrakenException.class, () -> registry.parse("de 2"));
+        assertTrue(e.getMessage().contains("Usage: deadline"), e.getMessage());
+        e = assertThrows(KrakenException.class, () -> registry.parse("e 2"));
+        assertTrue(e.getMessage().contains("event, explain"), e.getMessage());
+    }
+
+    /**
+     * Verifies that registered commands are dispatched and listed, and that their prefixes take part in
+     * ambiguity checks.
+     */
+    @Test
+    public void register_additionalCommand_isDispatchedAndListed() throws KrakenException {
+        CommandRegistry registry = newRegistry();
+        assertInstanceOf(StatsCommand.class, registry.parse("stat"));
+
+        registry.register(new StatusParser());
+
+        assertInstanceOf(StatsCommand.class, registry.parse("status"));
+        assertInstanceOf(StatsCommand.class, registry.parse("statu"));
+        assertThrows(KrakenException.class, () -> registry.parse("stat"));
+        assertTrue(registry.getUnknownCommandMessage().endsWith("bye, status"), registry.getUnknownCommandMessage());
+    }
+
+    /**
+     * Verifies that a command cannot take over a word that is already registered.
+     */
+    @Test
+    public void register_duplicateWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = newRegistry();
+        CommandParser clash = new StatusParser() {
+            @Override
+            public List<String> getAliases() {
+                return List.of("t");
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register(clash));
+    }
+
+    /**
+     * Verifies that a command cannot take over a built-in word, or list its own name as an alias, and that
+     * a rejected command leaves the registry unchanged.
+     */
+    @Test
+    public void register_duplicateOwnOrBuiltInWord_throwsIllegalArgumentException() throws KrakenException {
+        CommandRegistry registry = newRegistry();
+        CommandParser hijack = new StatusParser() {
+            @Override
+            public String getName() {
+                return "delete";
+            }
+        };
+        CommandParser selfClash = new StatusParser() {
+            @Override
+            public List<String> getAliases() {
+                return List.of("st", "status");
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register(hijack));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(selfClash));
+        assertInstanceOf(DeleteCommand.class, registry.parse("delete 1"));
+        assertInstanceOf(StatsCommand.class, registry.parse("stat"));
+    }
+
+    /**
+     * Verifies that input lines resolve to the command their word, alias or abbreviation names, and that
+     * blank, unknown and ambiguous words resolve to nothing.
+     */
+    @Test
+    public void resolve_commandWords_returnsCommandName() {
+        CommandRegistry registry = newRegistry();
+        registry.register(new StatusParser() {
+            @Override
+            public List<String> getAliases() {
+                return List.of("sts");
+            }
+        });
+
+        assertEquals("find", registry.resolve("f book"));
+        assertEquals("find", registry.resolve("  fin book"));
+        assertEquals("status", registry.resolve("sts"));
+        assertNull(registry.resolve("   "));
+        assertNull(registry.resolve("fly book"));
+        assertNull(registry.resolve("u 1"));
+    }
+}
@@ -12,15 +12,24 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import kraken.command.Command;
+import kraken.command.ConflictsCommand;
 import kraken.command.FindCommand;
+import kraken.command.FreeCommand;
+import kraken.command.FuzzyFindCommand;
 import kraken.command.ListCommand;
+import kraken.command.QueryCommand;
 import kraken.command.TodoCommand;
+import kraken.command.UpcomingCommand;
 import kraken.exception.KrakenException;
 import kraken.storage.Storage;
 import kraken.task.Deadline;
 import kraken.task.Event;
+import kraken.task.Recurrence;
+import kraken.task.RecurringDeadline;
+import kraken.task.RecurringEvent;
 import kraken.task.Task;
 import kraken.task.TaskList;
+import kraken.task.TaskStatistics;
 import kraken.task.Todo;
 import kraken.ui.Ui;
 
@@ -82,6 +91,19 @@ public class ParserTest {
         assertTrue(e.getMessage().contains("Usage: find"), e.getMessage());
     }
 
+    /**
+     * Verifies that {@code find} with a keyword is recognized under any word resolving to it.
+     */
+    @Test
+    public void isFindWithKeyword_findAbbreviations_recognized() {
+        assertTrue(Parser.isFindWithKeyword("f book"));
+        assertTrue(Parser.isFindWithKeyword("fin book"));
+        assertTrue(Parser.isFindWithKeyword("find ~recieve"));
+        assertFalse(Parser.isFindWithKeyword("find  "));
+        assertFalse(Parser.isFindWithKeyword("free 2h"));
+        assertFalse(Parser.isFindWithKeyword(null));
+    }
+
     /**
      * Verifies that {@code find} parses into a {@link FindCommand}.
      */
@@ -90,6 +112,16 @@ public class ParserTest {
         assertInstanceOf(FindCommand.class, Parser.parse("find book"));
     }
 
+    /**
+     * Verifies that a {@code ~}-prefixed keyword parses into a {@link FuzzyFindCommand}.
+     */
+    @Test
+    public void parse_findTilde_returnsFuzzyFindCommand() throws KrakenException {
+        assertInstanceOf(FuzzyFindCommand.class, Parser.parse("find ~recieve"));
+        KrakenException e = assertThrows(KrakenException.class, () -> Parser.parse("find ~"));
+        assertTrue(e.getMessage().contains("Usage: find ~"), e.getMessage());
+    }
+
     /**
      * Verifies that alias {@code t} parses into a {@link TodoCommand} and adds a todo.
      */
@@ -110,6 +142,31 @@ public class ParserTest {
         assertInstanceOf(ListCommand.class, Parser.parse("l"));
     }
 
+    /**
+     * Verifies that {@code list --sort} accepts known orders and rejects unknown ones.
+     */
+    @Test
+    public void parse_listSort_validatesOrder() throws KrakenException {
+        assertInstanceOf(ListCommand.class, Parser.parse("list --sort by-date"));
+        assertInstanceOf(ListCommand.class, Parser.parse("l --sort by-description"));
+        KrakenException e = assertThrows(KrakenException.class, () -> Parser.parse("list --sort by-size"));
+        assertTrue(e.getMessage().contains("Usage: list"), e.getMessage());
+    }
+
+    /**
+     * Verifies that {@code --sort} must be a whole word, however the arguments are spaced.
+     */
+    @Test
+    public void parse_listSortFlagPrefix_throwsKrakenException() throws KrakenException {
+        assertInstanceOf(ListCommand.class, Parser.parse("list \t--sort   by-date "));
+        KrakenException e = assertThrows(KrakenException.class, () -> Parser.parse("list --sortby-date"));
+        assertTrue(e.getMessage().contains("Unknown option '--sortby-date'"), e.getMessage());
+        e = assertThrows(KrakenException.class, () -> Parser.parse("list --sorted by-date"));
+        assertTrue(e.getMessage().contains("Unknown option '--sorted'"), e.getMessage());
+        e = assertThrows(KrakenException.class, () -> Parser.parse("list --sort"));
+        assertTrue(e.getMessage().contains("Please specify a sort order"), e.getMessage());
+    }
+
     /**
      * Verifies that alias {@code f} parses into a {@link FindCommand}.
      */
@@ -216,6 +273,84 @@ public class ParserTest {
         assertTrue(e.getMessage().contains("Usage: mark"), e.getMessage());
     }
 
+    /**
+     * Verifies that {@code upcoming} parses with and without an explicit count.
+     */
+    @Test
+    public void parse_upcoming_returnsUpcomingCommand() throws KrakenException {
+        assertInstanceOf(UpcomingCommand.class, Parser.parse("upcoming"));
+        assertInstanceOf(UpcomingCommand.class, Parser.parse("upcoming 3"));
+    }
+
+    /**
+     * Verifies that {@code upcoming} rejects non-positive counts.
+     */
+    @Test
+    public void parse_upcomingInvalidCount_throwsKrakenException() {
+        KrakenException e = assertThrows(KrakenException.class, () -> Parser.parse("upcoming 0"));
+        assertTrue(e.getMessage().contains("Usage: upcoming"), e.getMessage());
+    }
+
+    /**
+     * Verifies that {@code query} and {@code explain} compile predicates into a {@link QueryCommand}.
+     */
+    @Test
+    public void parse_query_returnsQueryCommand() throws KrakenException {
+        assertInstanceOf(QueryCommand.class, Parser.parse("query type:deadline done:0 before:2026-12-01 text:report"));
+        assertInstanceOf(QueryCommand.class, Parser.parse("explain after:1/1/2026 text:a text:b"));
+    }
+
+    /**
+     * Verifies that malformed query predicates are rejected with usage help.
+     */
+    @Test
+    public void parse_queryMalformedPredicate_throwsKrakenException() {
+        KrakenException e = assertThrows(KrakenException.class, () -> Parser.parse("query colour:red"));
+        assertTrue(e.getMessage().contains("Unknown query key"), e.getMessage());
+        e = assertThrows(KrakenException.class, () -> Parser.parse("query done:maybe"));
+        assertTrue(e.getMessage().contains("Usage: query"), e.getMessage());
+        e = assertThrows(KrakenException.class, () -> Parser.parse("query report"));
+        assertTrue(e.getMessage().contains("key:value"), e.getMessage());
+    }
+
+    /**
+     * Verifies that {@code conflicts} parses into a {@link ConflictsCommand}.
+     */
+    @Test
+    public void parse_conflicts_returnsConflictsCommand() throws KrakenException {
+        assertInstanceOf(ConflictsCommand.class, Parser.parse("conflicts"));
+    }
+
+    /**
+     * Verifies that {@code free} accepts a date range and a minimum duration.
+     */
+    @Test
+    public void parse_freeWithRangeAndDuration_returnsFreeCommand() throws KrakenException {
+        assertInstanceOf(FreeCommand.class, Parser.parse("free 2019-12-02"));
+        assertInstanceOf(FreeCommand.class, Parser.parse("free 2/12/2019 /to 6/12/2019 1h30m"));
+        assertInstanceOf(FreeCommand.class, Parser.parse("free 2019-12-02 45"));
+    }
+
+    /**
+     * Verifies that {@code free} and {@code query} split their arguments at any run of whitespace.
+     */
+    @Test
+    public void parse_freeAndQueryIrregularWhitespace_splitsWords() throws KrakenException {
+        assertInstanceOf(FreeCommand.class, Parser.parse("  free   2019-12-02 \t/to\t\t2019-12-06   1h  "));
+        assertInstanceOf(QueryCommand.class, Parser.parse("query  type:deadline\t \tdone:0   "));
+    }
+
+    /**
+     * Verifies that {@code free} rejects malformed durations and reversed ranges.
+     */
+    @Test
+    public void parse_freeInvalid_throwsKrakenException() {
+        assertThrows(KrakenException.class, () -> Parser.parse("free"));
+        assertThrows(KrakenException.class, () -> Parser.parse("free 2019-12-02 1h30"));
+        assertThrows(KrakenException.class, () -> Parser.parse("free 2019-12-02 0m"));
+        assertThrows(KrakenException.class, () -> Parser.parse("free 2019-12-06 /to 2019-12-02"));
+    }
+
     /**
      * Verifies that {@code bye} parses into a command that requests application exit.
      */
@@ -274,6 +409,57 @@ public class ParserTest {
         assertEquals(LocalDateTime.of(2019, 12, 2, 18, 0), event.getTo());
     }
 
+    /**
+     * Verifies that markers are found regardless of the whitespace around fields, and fields are trimmed.
+     */
+    @Test
+    public void execute_eventWithIrregularWhitespace_trimsFields() throws KrakenException {
+        TaskList tasks = new TaskList();
+        execute("  event\tteam  sync \t/from 2019-12-02 0900/to   2019-12-02 1000 /every  day  ", tasks);
+
+        RecurringEvent event = (RecurringEvent) tasks.get(0);
+        assertEquals("team  sync", event.getDescription());
+        assertEquals(LocalDateTime.of(2019, 12, 2, 9, 0), event.getFrom());
+        assertEquals(LocalDateTime.of(2019, 12, 2, 10, 0), event.getTo());
+        assertEquals(Recurrence.DAILY, event.getRecurrence());
+    }
+
+    /**
+     * Verifies that {@code /every} creates a recurring deadline whose first occurrence is the {@code /by} date.
+     */
+    @Test
+    public void execute_deadlineEvery_addsRecurringDeadline() throws KrakenException {
+        TaskList tasks = new TaskList();
+        execute("deadline timesheet /by 2019-12-06 1700 /every week", tasks);
+
+        Task task = tasks.get(0);
+        assertInstanceOf(RecurringDeadline.class, task);
+        assertEquals(Recurrence.WEEKLY, ((RecurringDeadline) task).getRecurrence());
+        assertEquals(LocalDateTime.of(2019, 12, 6, 17, 0), ((Deadline) task).getBy());
+    }
+
+    /**
+     * Verifies that an unknown {@code /every} unit is rejected.
+     */
+    @Test
+    public void parse_eventEveryUnknownUnit_throwsKrakenException() {
+        assertThrows(KrakenException.class,
+                () -> Parser.parse("event standup /from 2019-12-02 0900 /to 2019-12-02 0915 /every fortnight"));
+    }
+
+    /**
+     * Verifies that adding an overlapping event still adds it.
+     */
+    @Test
+    public void execute_overlappingEvent_isStillAdded() throws KrakenException {
+        TaskList tasks = new TaskList();
+        execute("event trip /from 2019-12-02 0900 /to 2019-12-02 1800", tasks);
+        execute("event call /from 2019-12-02 1000 /to 2019-12-02 1100", tasks);
+
+        assertEquals(2, tasks.size());
+        assertEquals(1, tasks.getConflicts().size());
+    }
+
     /**
      * Verifies that {@code mark} uses 1-based task numbers from user input.
      */
@@ -308,6 +494,11 @@ public class ParserTest {
      * No-op UI used in tests to prevent writing to stdout.
      */
     private static class NoOpUi implements Ui {
+        @Override
+        public void writeLine(String line) {
+            // no-op
+        }
+
         @Override
         public void showWelcome() {
             // no-op
@@ -372,5 +563,70 @@ public class ParserTest {
         public void showNoTasksFoundOn(String formattedDate) {
             // no-op
         }
+
+        @Override
+        public void showUpcomingTasksHeader() {
+            // no-op
+        }
+
+        @Override
+        public void showNoUpcomingTasks() {
+            // no-op
+        }
+
+        @Override
+        public void showSortedTaskListHeader(String orderName) {
+            // no-op
+        }
+
+        @Override
+        public void showQueryPlan(String query, String plan, int rowsScanned, int rowsMatched) {
+            // no-op
+        }
+
+        @Override
+        public void showStatistics(TaskStatistics stats) {
+            // no-op
+        }
+
+        @Override
+        public void showReminder(Task task) {
+            // no-op
+        }
+
+        @Override
+        public void showConflictsHeader() {
+            // no-op
+        }
+
+        @Override
+        public void showNoConflicts() {
+            // no-op
+        }
+
+        @Override
+        public void showConflict(int firstIndex, Task first, int secondIndex, Task second) {
+            // no-op
+        }
+
+        @Override
+        public void showOverlappingEventsWarning() {
+            // no-op
+        }
+
+        @Override
+        public void showFreeSlotsHeader(String formattedRange) {
+            // no-op
+        }
+
+        @Override
+        public void showFreeSlot(String formattedFrom, String formattedTo) {
+            // no-op
+        }
+
+        @Override
+        public void showNoFreeSlots(String formattedRange) {
+            // no-op
+        }
     }
 }
@@ -0,0 +1,81 @@
+package kraken.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import kraken.exception.KrakenException;
+import kraken.task.Deadline;
+import kraken.task.Event;
+import kraken.task.Recurrence;
+import kraken.task.RecurringDeadline;
+import kraken.task.Task;
+import kraken.task.TaskList;
+
+/**
+ * Unit tests for {@link ReminderScheduler}.
+ */
+public class ReminderSchedulerTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2019, 12, 2, 12, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private static ReminderScheduler newScheduler(BlockingQueue<Task> reminded) {
+        return new ReminderScheduler(Executors.newSingleThreadScheduledExecutor(), CLOCK, 60, reminded::add);
+    }
+
+    /**
+     * Verifies that the next reminder follows tasks as they are added, marked done, unmarked and deleted.
+     */
+    @Test
+    public void getNextReminderAt_tracksTaskListChanges() throws KrakenException {
+        TaskList tasks = new TaskList();
+        tasks.add(new Deadline("past", NOW.minusDays(1)));
+        tasks.add(new Deadline("report", NOW.plusDays(2)));
+
+        try (ReminderScheduler scheduler = newScheduler(new LinkedBlockingQueue<>())) {
+            tasks.addPendingTaskListener(scheduler);
+            assertEquals(NOW.plusDays(2).minusHours(1), scheduler.getNextReminderAt());
+
+            tasks.add(new Event("meeting", NOW.plusDays(1), NOW.plusDays(1).plusHours(1)));
+            assertEquals(NOW.plusDays(1).minusHours(1), scheduler.getNextReminderAt());
+
+            tasks.markTaskOrThrow(2);
+            assertEquals(NOW.plusDays(2).minusHours(1), scheduler.getNextReminderAt());
+
+            tasks.unmarkTaskOrThrow(2);
+            assertEquals(NOW.plusDays(1).minusHours(1), scheduler.getNextReminderAt());
+
+            tasks.removeTaskOrThrow(2);
+            tasks.removeTaskOrThrow(1);
+            assertNull(scheduler.getNextReminderAt());
+        }
+    }
+
+    /**
+     * Verifies that a task due within the lead time is reminded about, and a recurring one is queued again.
+     */
+    @Test
+    public void pendingTaskAdded_dueWithinLeadTime_deliversReminder() throws InterruptedException {
+        BlockingQueue<Task> reminded = new LinkedBlockingQueue<>();
+        TaskList tasks = new TaskList();
+        Task weekly = new RecurringDeadline("timesheet", NOW.plusMinutes(30), Recurrence.WEEKLY);
+
+        try (ReminderScheduler scheduler = newScheduler(reminded)) {
+            tasks.addPendingTaskListener(scheduler);
+            tasks.add(weekly);
+
+            assertSame(weekly, reminded.poll(5, TimeUnit.SECONDS));
+            assertEquals(NOW.plusWeeks(1).minusMinutes(30), scheduler.getNextReminderAt());
+        }
+    }
+}
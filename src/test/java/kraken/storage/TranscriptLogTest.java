@@ -0,0 +1,76 @@
+package kraken.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TranscriptLog}.
+ */
+public class TranscriptLogTest {
+    /**
+     * Verifies that entries with line breaks, backslashes and non-ASCII text read back unchanged by range.
+     */
+    @Test
+    public void read_returnsAppendedEntriesByRange() throws IOException {
+        Path file = Files.createTempDirectory("kraken").resolve("transcript.log");
+        try (TranscriptLog log = new TranscriptLog(file)) {
+            assertEquals(0, log.append("Ulist"));
+            assertEquals(1, log.append("K 1.[T][ ] caf\u00e9\n 2.[D][ ] C:\\temp\\n"));
+            for (int i = 0; i < 100; i++) {
+                log.append("Utodo " + i);
+            }
+
+            assertEquals(102, log.size());
+            assertEquals(List.of("Ulist", "K 1.[T][ ] caf\u00e9\n 2.[D][ ] C:\\temp\\n"), log.read(0, 2));
+            assertEquals(List.of("Utodo 98", "Utodo 99"), log.read(100, 102));
+
+            log.append("Ubye\r\n");
+            assertEquals(List.of("Utodo 99", "Ubye\r\n"), log.read(101, 103));
+        }
+    }
+
+    /**
+     * Verifies that a replaced entry reads back with its new text, alone and within a range.
+     */
+    @Test
+    public void replace_readsBackNewTextInPlace() throws IOException {
+        Path file = Files.createTempDirectory("kraken").resolve("transcript.log");
+        try (TranscriptLog log = new TranscriptLog(file)) {
+            for (int i = 0; i < 5; i++) {
+                log.append("K...");
+            }
+            log.replace(1, "Kfirst\nreply");
+            log.replace(3, "Kthird");
+            log.replace(3, "Kthird, again");
+
+            assertEquals(5, log.size());
+            assertEquals(List.of("K...", "Kfirst\nreply", "K...", "Kthird, again", "K..."), log.read(0, 5));
+            assertEquals(List.of("Kthird, again"), log.read(3, 4));
+            log.append("Unext");
+            assertEquals(List.of("K...", "Unext"), log.read(4, 6));
+        }
+    }
+
+    /**
+     * Verifies that opening a log discards entries from a previous session.
+     */
+    @Test
+    public void open_truncatesExistingFile() throws IOException {
+        Path file = Files.createTempDirectory("kraken").resolve("transcript.log");
+        try (TranscriptLog log = new TranscriptLog(file)) {
+            log.append("Uold");
+        }
+        try (TranscriptLog log = new TranscriptLog(file)) {
+            assertEquals(0, log.size());
+            log.append("Unew");
+            assertEquals(List.of("Unew"), log.read(0, 1));
+        }
+        assertEquals(List.of("Unew"), Files.readAllLines(file));
+    }
+}
@@ -0,0 +1,411 @@
+package kraken.task;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import kraken.exception.KrakenException;
+import kraken.util.DateTimeUtil;
+
+/**
+ * Unit tests for {@link TaskList}.
+ */
+public class TaskListTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2019, 12, 2, 12, 0);
+
+    /**
+     * Verifies that {@link TaskList#indexOf(Task)} tracks positions across removals.
+     */
+    @Test
+    public void indexOf_afterRemovals_returnsCurrentPosition() {
+        TaskList tasks = new TaskList();
+        Task first = new Todo("first");
+        Task second = new Todo("second");
+        Task third = new Todo("third");
+        tasks.add(first);
+        tasks.add(second);
+        tasks.add(third);
+
+        tasks.remove(0);
+
+        assertEquals(0, tasks.indexOf(second));
+        assertEquals(1, tasks.indexOf(third));
+
+        Task fourth = new Todo("fourth");
+        tasks.add(fourth);
+        assertEquals(2, tasks.indexOf(fourth));
+    }
+
+    /**
+     * Verifies that upcoming tasks are returned in date order and limited to the requested count.
+     */
+    @Test
+    public void getUpcoming_returnsNearestFutureTasksInDateOrder() {
+        TaskList tasks = new TaskList();
+        Task past = new Deadline("past", NOW.minusDays(1));
+        Task later = new Deadline("later", NOW.plusDays(3));
+        Task soon = new Event("soon", NOW.plusHours(1), NOW.plusHours(2));
+        Task todo = new Todo("undated");
+        Task soonest = new Deadline("soonest", NOW.plusMinutes(30));
+        tasks.add(past);
+        tasks.add(later);
+        tasks.add(soon);
+        tasks.add(todo);
+        tasks.add(soonest);
+
+        assertEquals(List.of(soonest, soon, later), tasks.getUpcoming(NOW, 5));
+        assertEquals(List.of(soonest, soon), tasks.getUpcoming(NOW, 2));
+    }
+
+    /**
+     * Verifies that a recurring task is listed once, at its next occurrence, among upcoming tasks.
+     */
+    @Test
+    public void getUpcoming_recurringTask_usesNextOccurrence() {
+        TaskList tasks = new TaskList();
+        Task weekly = new RecurringEvent("standup", NOW.minusWeeks(3).minusHours(3),
+                NOW.minusWeeks(3).minusHours(2), Recurrence.WEEKLY);
+        Task later = new Deadline("later", NOW.plusDays(3));
+        Task muchLater = new Deadline("much later", NOW.plusDays(10));
+        tasks.add(later);
+        tasks.add(muchLater);
+        tasks.add(weekly);
+
+        assertEquals(List.of(later, weekly, muchLater), tasks.getUpcoming(NOW, 5));
+        assertEquals(NOW.plusWeeks(1).minusHours(3),
+                DateTimeUtil.fromEpochMinute(((Recurring) weekly).firstOccurrenceFrom(
+                        DateTimeUtil.toEpochMinute(NOW))));
+    }
+
+    /**
+     * Verifies that monthly recurrences stay on the calendar, clamping to shorter months.
+     */
+    @Test
+    public void recurrence_monthly_followsCalendar() {
+        long start = DateTimeUtil.toEpochMinute(LocalDateTime.of(2019, 1, 31, 9, 0));
+        long bound = DateTimeUtil.toEpochMinute(LocalDateTime.of(2019, 2, 10, 0, 0));
+
+        assertEquals(LocalDateTime.of(2019, 2, 28, 9, 0),
+                DateTimeUtil.fromEpochMinute(Recurrence.MONTHLY.firstOccurrenceFrom(start, bound)));
+    }
+
+    /**
+     * Verifies that the conflict sweep reports each overlapping pair once and ignores touching events.
+     */
+    @Test
+    public void getConflicts_reportsOverlappingPendingEvents() throws KrakenException {
+        TaskList tasks = new TaskList();
+        Event long1 = new Event("conference", NOW, NOW.plusHours(8));
+        Event talk = new Event("talk", NOW.plusHours(1), NOW.plusHours(2));
+        Event lunch = new Event("lunch", NOW.plusHours(2), NOW.plusHours(3));
+        Event dinner = new Event("dinner", NOW.plusHours(9), NOW.plusHours(10));
+        Event done = new Event("old", NOW.plusHours(1), NOW.plusHours(5));
+        tasks.add(long1);
+        tasks.add(talk);
+        tasks.add(lunch);
+        tasks.add(dinner);
+        tasks.add(done);
+        tasks.markTaskOrThrow(4);
+
+        List<EventConflict> conflicts = tasks.getConflicts();
+
+        assertEquals(2, conflicts.size());
+        assertSame(long1, conflicts.get(0).getFirst());
+        assertSame(talk, conflicts.get(0).getSecond());
+        assertSame(long1, conflicts.get(1).getFirst());
+        assertSame(lunch, conflicts.get(1).getSecond());
+    }
+
+    /**
+     * Verifies that recurring events are swept with one-off events and each other, each pair reported once.
+     */
+    @Test
+    public void getConflicts_recurringEvents_reportedOncePerPair() {
+        TaskList tasks = new TaskList();
+        Task standup = new RecurringEvent("standup", NOW.minusWeeks(5).plusHours(1),
+                NOW.minusWeeks(5).plusHours(2), Recurrence.WEEKLY);
+        Task review = new RecurringEvent("review", NOW.minusWeeks(1).plusMinutes(90),
+                NOW.minusWeeks(1).plusHours(3), Recurrence.WEEKLY);
+        Task workshop = new Event("workshop", NOW.plusWeeks(3), NOW.plusWeeks(3).plusHours(4));
+        Task farAway = new Event("far away", NOW.plusYears(2), NOW.plusYears(2).plusHours(4));
+        tasks.add(standup);
+        tasks.add(review);
+        tasks.add(workshop);
+        tasks.add(farAway);
+
+        List<EventConflict> conflicts = tasks.getConflicts(NOW);
+
+        assertEquals(3, conflicts.size());
+        assertSame(standup, conflicts.get(0).getFirst());
+        assertSame(review, conflicts.get(0).getSecond());
+        assertSame(workshop, conflicts.get(1).getFirst());
+        assertSame(standup, conflicts.get(1).getSecond());
+        assertSame(workshop, conflicts.get(2).getFirst());
+        assertSame(review, conflicts.get(2).getSecond());
+    }
+
+    /**
+     * Verifies that the overlap lookup finds long-running and recurring events but not adjacent ones.
+     */
+    @Test
+    public void getOverlappingEvents_findsEventsAcrossRange() {
+        TaskList tasks = new TaskList();
+        Task conference = new Event("conference", NOW.minusDays(2), NOW.plusDays(2));
+        Task before = new Event("before", NOW.minusHours(2), NOW);
+        Task standup = new RecurringEvent("standup", NOW.minusWeeks(5).plusMinutes(30),
+                NOW.minusWeeks(5).plusMinutes(45), Recurrence.WEEKLY);
+        Task after = new Event("after", NOW.plusHours(1), NOW.plusHours(2));
+        tasks.add(conference);
+        tasks.add(before);
+        tasks.add(standup);
+        tasks.add(after);
+
+        assertEquals(List.of(conference, standup), tasks.getOverlappingEvents(NOW, NOW.plusHours(1)));
+    }
+
+    /**
+     * Verifies that free slots are the gaps between merged events, including recurring occurrences.
+     */
+    @Test
+    public void getFreeSlots_mergesEventsInWindow() {
+        LocalDateTime day = NOW.toLocalDate().atStartOfDay();
+        TaskList tasks = new TaskList();
+        tasks.add(new Event("overnight", day.minusHours(2), day.plusHours(8)));
+        tasks.add(new Event("meeting", day.plusHours(9), day.plusHours(11)));
+        tasks.add(new Event("workshop", day.plusHours(10), day.plusHours(12)));
+        tasks.add(new RecurringEvent("gym", day.minusWeeks(3).plusHours(18), day.minusWeeks(3).plusHours(19),
+                Recurrence.WEEKLY));
+        tasks.add(new Event("tomorrow", day.plusDays(1).plusHours(9), day.plusDays(1).plusHours(10)));
+
+        List<FreeSlot> slots = tasks.getFreeSlots(day, day.plusDays(1), 60);
+
+        assertEquals(3, slots.size());
+        assertEquals(day.plusHours(8), slots.get(0).getStart());
+        assertEquals(day.plusHours(9), slots.get(0).getEnd());
+        assertEquals(day.plusHours(12), slots.get(1).getStart());
+        assertEquals(day.plusHours(18), slots.get(1).getEnd());
+        assertEquals(day.plusHours(19), slots.get(2).getStart());
+        assertEquals(day.plusDays(1), slots.get(2).getEnd());
+        assertEquals(1, tasks.getFreeSlots(day, day.plusDays(1), 301).size());
+    }
+
+    /**
+     * Verifies that statistics follow additions, status changes and removals.
+     */
+    @Test
+    public void getStatistics_tracksCountsIncrementally() throws KrakenException {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("read"));
+        tasks.add(new Deadline("overdue", NOW.minusDays(1)));
+        tasks.add(new Deadline("done late", NOW.minusDays(2)));
+        tasks.add(new Deadline("soon", NOW.plusHours(1)));
+        tasks.add(new Event("trip", NOW.plusDays(1), NOW.plusDays(2)));
+        tasks.add(new Event("later", NOW.plusDays(10), NOW.plusDays(10).plusHours(1)));
+        tasks.add(new RecurringDeadline("rent", NOW.minusMonths(3), Recurrence.MONTHLY));
+        tasks.markTaskOrThrow(2);
+
+        TaskStatistics stats = tasks.getStatistics(NOW);
+        assertEquals(7, stats.getTaskCount());
+        assertEquals(1, stats.getCount(TaskType.TODO));
+        assertEquals(4, stats.getCount(TaskType.DEADLINE));
+        assertEquals(2, stats.getCount(TaskType.EVENT));
+        assertEquals(1, stats.getDoneCount());
+        assertEquals(6, stats.getOpenCount());
+        assertEquals(1, stats.getOverdueDeadlines());
+        assertEquals(1, stats.getRecurringCount());
+        assertEquals(Map.of(NOW.toLocalDate(), 1, NOW.toLocalDate().plusDays(1), 1), stats.getTasksPerDay());
+        // NOW is a Monday, so the first two tasks share its week and the overdue ones fall in the week before.
+        assertEquals(Map.of(NOW.toLocalDate(), 2, NOW.toLocalDate().plusWeeks(1), 1), stats.getTasksPerWeek());
+
+        tasks.unmarkTaskOrThrow(2);
+        tasks.remove(3);
+        stats = tasks.getStatistics(NOW);
+        assertEquals(0, stats.getDoneCount());
+        assertEquals(2, stats.getOverdueDeadlines());
+        assertEquals(3, stats.getCount(TaskType.DEADLINE));
+        assertEquals(Map.of(NOW.toLocalDate().plusDays(1), 1), stats.getTasksPerDay());
+    }
+
+    /**
+     * Verifies that marking and unmarking keeps the upcoming index in sync.
+     */
+    @Test
+    public void getUpcoming_markAndUnmark_updatesIndex() throws KrakenException {
+        TaskList tasks = new TaskList();
+        Task deadline = new Deadline("report", NOW.plusDays(1));
+        tasks.add(deadline);
+
+        tasks.markTaskOrThrow(0);
+        assertTrue(tasks.getUpcoming(NOW, 5).isEmpty());
+
+        tasks.unmarkTaskOrThrow(0);
+        assertEquals(List.of(deadline), tasks.getUpcoming(NOW, 5));
+
+        tasks.removeTaskOrThrow(0);
+        assertTrue(tasks.getUpcoming(NOW, 5).isEmpty());
+    }
+
+    /**
+     * Verifies that the memoized display string is reused and refreshed on mark and unmark.
+     */
+    @Test
+    public void toString_memoizedUntilMarkOrUnmark() throws KrakenException {
+        TaskList tasks = new TaskList();
+        tasks.add(new Event("demo", LocalDateTime.of(2019, 12, 2, 0, 0), LocalDateTime.of(2019, 12, 2, 18, 30)));
+        Task event = tasks.get(0);
+        String display = event.toString();
+        assertEquals("[E][ ] demo (from: Dec 2 2019 to: Dec 2 2019 1830)", display);
+        assertSame(display, event.toString());
+
+        tasks.markTaskOrThrow(0);
+        assertEquals("[E][X] demo (from: Dec 2 2019 to: Dec 2 2019 1830)", event.toString());
+        tasks.unmarkTaskOrThrow(0);
+        assertEquals(display, event.toString());
+    }
+
+    /**
+     * Verifies that a sorted view stays ordered as tasks are added and removed after it is built.
+     */
+    @Test
+    public void getSortedView_maintainedAcrossMutations() {
+        TaskList tasks = new TaskList();
+        Task banana = new Todo("banana");
+        Task apple = new Todo("Apple");
+        tasks.add(banana);
+        tasks.add(apple);
+        assertEquals(List.of(apple, banana), toList(tasks.getSortedView(SortOrder.BY_DESCRIPTION)));
+
+        Task cherry = new Deadline("cherry", NOW);
+        tasks.add(cherry);
+        tasks.remove(0);
+
+        assertEquals(List.of(apple, cherry), toList(tasks.getSortedView(SortOrder.BY_DESCRIPTION)));
+        assertEquals(List.of(cherry, apple), toList(tasks.getSortedView(SortOrder.BY_DATE)));
+    }
+
+    /**
+     * Verifies that substring search matches within and across words, ignores case and keeps list order.
+     */
+    @Test
+    public void findContaining_substrings_matchesInListOrder() {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("Read book"));
+        tasks.add(new Todo("return library books"));
+        tasks.add(new Todo("buy milk"));
+        tasks.add(new Todo("e-book reader"));
+
+        assertArrayEquals(new int[] {0, 1, 3}, tasks.findContaining("BOOK"));
+        assertArrayEquals(new int[] {1}, tasks.findContaining("ary boo"));
+        assertArrayEquals(new int[] {3}, tasks.findContaining("e-b"));
+        assertArrayEquals(new int[] {3}, tasks.findContaining("-"));
+        assertArrayEquals(new int[0], tasks.findContaining("books reader"));
+
+        tasks.remove(0);
+        assertArrayEquals(new int[] {0, 2}, tasks.findContaining("book"));
+    }
+
+    /**
+     * Verifies that fuzzy search tolerates misspellings and forgets removed tasks.
+     */
+    @Test
+    public void findApproximate_misspelledWord_findsTask() {
+        TaskList tasks = new TaskList();
+        Task receive = new Todo("receive parcel");
+        Task other = new Todo("return book");
+        tasks.add(receive);
+        tasks.add(other);
+
+        assertEquals(List.of(receive), tasks.findApproximate("recieve"));
+        assertEquals(List.of(other), tasks.findApproximate("BOOKS"));
+
+        tasks.remove(0);
+        assertTrue(tasks.findApproximate("recieve").isEmpty());
+    }
+
+    /**
+     * Verifies that a query is served by the most selective index and still evaluates every predicate.
+     */
+    @Test
+    public void query_usesMostSelectiveIndexAndFilters() throws KrakenException {
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(new Todo("chore " + i));
+        }
+        Task report = new Deadline("weekly report", NOW.plusDays(1));
+        Task oldReport = new Deadline("monthly report", NOW.minusDays(40));
+        Task meeting = new Event("report review", NOW.plusDays(2), NOW.plusDays(2).plusHours(1));
+        tasks.add(report);
+        tasks.add(oldReport);
+        tasks.add(meeting);
+        tasks.markTaskOrThrow(tasks.indexOf(oldReport));
+
+        QueryResult result = tasks.query(new TaskQuery(TaskType.DEADLINE, false, null, null, List.of("Report")));
+        assertEquals(List.of(report), result.getMatches());
+        assertTrue(result.getRowsScanned() < tasks.size(), result.getPlan());
+
+        QueryResult byDate = tasks.query(new TaskQuery(null, null, null, NOW.plusDays(1).toLocalDate(), List.of()));
+        assertEquals(List.of(meeting), byDate.getMatches());
+        assertTrue(byDate.getPlan().startsWith("date index"), byDate.getPlan());
+    }
+
+    /**
+     * Verifies that cached results are reused until the list is modified.
+     */
+    @Test
+    public void getCachedResult_invalidatedByModification() throws KrakenException {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("read book"));
+        int[] computations = new int[1];
+        Supplier<int[]> compute = () -> {
+            computations[0]++;
+            return new int[] {0};
+        };
+
+        tasks.getCachedResult("find:book", compute);
+        tasks.getCachedResult("find:book", compute);
+        assertEquals(1, computations[0]);
+
+        tasks.markTaskOrThrow(0);
+        tasks.getCachedResult("find:book", compute);
+        assertEquals(2, computations[0]);
+    }
+
+    /**
+     * Verifies that equal descriptions share one instance and that removals release their references.
+     */
+    @Test
+    public void add_equalDescriptions_shareOneInstance() {
+        TaskList tasks = new TaskList();
+        Task first = new Todo(new String("standup"));
+        Task second = new Todo(new String("standup"));
+        tasks.add(first);
+        tasks.add(second);
+        tasks.add(new Todo(new String("standup")));
+
+        assertSame(first.getDescription(), second.getDescription());
+        assertEquals(1, tasks.getStatistics().getDistinctDescriptions());
+        assertTrue(tasks.getStatistics().getDescriptionBytesSaved() > 0);
+
+        tasks.remove(0);
+        tasks.remove(0);
+        assertTrue(tasks.getStatistics().getDescriptionBytesSaved() < 0);
+        tasks.remove(0);
+        assertEquals(0, tasks.getStatistics().getDistinctDescriptions());
+        assertEquals(0, tasks.getStatistics().getDescriptionBytesSaved());
+    }
+
+    private static List<Task> toList(Iterable<Task> view) {
+        List<Task> result = new ArrayList<>();
+        view.forEach(result::add);
+        return result;
+    }
+}
@@ -0,0 +1,47 @@
+package kraken.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import kraken.task.TaskList;
+import kraken.task.Todo;
+
+/**
+ * Unit tests for {@link Ui}'s line rendering and the UIs built on it.
+ */
+public class UiTest {
+    /**
+     * Verifies that a listing reaches the sink one line at a time, in order.
+     */
+    @Test
+    public void showTaskList_streamsEachLine() {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("read book"));
+        tasks.add(new Todo("return book"));
+        List<String> lines = new ArrayList<>();
+
+        Ui ui = lines::add;
+        ui.showTaskList(tasks);
+
+        assertEquals(3, lines.size());
+        assertEquals(" 1.[T][ ] read book", lines.get(1));
+        assertEquals(" 2.[T][ ] return book", lines.get(2));
+    }
+
+    /**
+     * Verifies that {@link GuiUi} joins streamed lines with line separators and clears on consumption.
+     */
+    @Test
+    public void guiUi_consumeOutput_joinsLinesAndClears() {
+        GuiUi ui = new GuiUi();
+        ui.showWelcome();
+
+        assertEquals(String.join(System.lineSeparator(), Ui.LINE, " Hello! I'm Kraken", " What can I do for you?",
+                Ui.LINE), ui.consumeOutput());
+        assertEquals("", ui.consumeOutput());
+    }
+}
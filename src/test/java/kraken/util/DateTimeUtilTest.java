@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
@@ -105,4 +106,55 @@ public class DateTimeUtilTest {
         KrakenException e = assertThrows(KrakenException.class, () -> DateTimeUtil.parseUserDateTime(input));
         assertTrue(e.getMessage().contains("Invalid date/time"), e.getMessage());
     }
+
+    /**
+     * Verifies that 29 February is accepted only in leap years, in both date formats.
+     */
+    @Test
+    public void parseUserDate_leapDay_acceptedOnlyInLeapYears() throws KrakenException {
+        assertEquals(LocalDate.of(2020, 2, 29), DateTimeUtil.parseUserDate("2020-02-29"));
+        assertEquals(LocalDate.of(2000, 2, 29), DateTimeUtil.parseUserDate("29/2/2000"));
+        assertThrows(KrakenException.class, () -> DateTimeUtil.parseUserDate("29/2/1900"));
+        assertThrows(KrakenException.class, () -> DateTimeUtil.parseUserDate("31/4/2019"));
+    }
+
+    /**
+     * Verifies that a date-time is accepted where a date is expected, keeping only the date.
+     */
+    @Test
+    public void parseUserDate_dateTime_returnsDatePart() throws KrakenException {
+        assertEquals(LocalDate.of(2019, 12, 2), DateTimeUtil.parseUserDate("02/12/2019 2359"));
+    }
+
+    /**
+     * Verifies that unusual but valid shapes still parse the same way as with the formatters.
+     */
+    @Test
+    public void parseUserDate_unusualShapes_parsedByFormatters() throws KrakenException {
+        assertEquals(LocalDate.of(12019, 1, 1), DateTimeUtil.parseUserDate("+12019-01-01"));
+        assertEquals(LocalDate.of(2019, 12, 2), DateTimeUtil.parseUserDate("002/12/2019"));
+    }
+
+    /**
+     * Verifies that malformed shapes are rejected with the usual message.
+     */
+    @Test
+    public void parseUserDate_malformedShapes_throwKrakenException() {
+        String[] inputs = {"tomorrow", "2019-1-02", "2019/12/02", "1//2019", "2019-12-02  1800", "2019-12-02 18:00"};
+        for (String input : inputs) {
+            KrakenException e = assertThrows(KrakenException.class, () -> DateTimeUtil.parseUserDate(input));
+            assertTrue(e.getMessage().startsWith("Invalid date: '" + input + "'"), e.getMessage());
+        }
+    }
+
+    /**
+     * Verifies that stored date-times parse with and without seconds.
+     */
+    @Test
+    public void parseStorageDateTime_withAndWithoutSeconds() throws KrakenException {
+        assertEquals(LocalDateTime.of(2019, 12, 2, 18, 0), DateTimeUtil.parseStorageDateTime("2019-12-02T18:00"));
+        assertEquals(LocalDateTime.of(2019, 12, 2, 18, 0, 30),
+                DateTimeUtil.parseStorageDateTime("2019-12-02T18:00:30"));
+        assertThrows(KrakenException.class, () -> DateTimeUtil.parseStorageDateTime("2019-02-29T18:00"));
+    }
 }
@@ -9,15 +9,12 @@ if exist ACTUAL.TXT del ACTUAL.TXT
 REM delete persisted data from previous run (so tests are deterministic)
 if exist data\kraken.txt del data\kraken.txt
 
-REM compile the code into the bin folder
-dir /s /b ..\src\main\java\*.java > sources.txt
-javac  -cp ..\src\main\java -Xlint:none -d ..\bin @sources.txt
+REM compile the text UI and everything it uses into the bin folder (the JavaFX GUI is not needed)
+javac  -cp ..\src\main\java -Xlint:none -d ..\bin ..\src\main\java\kraken\Kraken.java
 IF ERRORLEVEL 1 (
-    del sources.txt
     echo ********** BUILD FAILURE **********
     exit /b 1
 )
-del sources.txt
 REM no error here, errorlevel == 0
 
 REM run the program, feed commands from input.txt file and redirect the output to the ACTUAL.TXT
@@ -18,8 +18,9 @@ then
     rm ./data/kraken.txt
 fi
 
-# compile the code into the bin folder, terminates if error occurred
-if ! javac -cp ../src/main/java -Xlint:none -d ../bin $(find ../src/main/java -name "*.java")
+# compile the text UI and everything it uses into the bin folder (the JavaFX GUI is not needed),
+# terminates if error occurred
+if ! javac -cp ../src/main/java -Xlint:none -d ../bin ../src/main/java/kraken/Kraken.java
 then
     echo "********** BUILD FAILURE **********"
     exit 1